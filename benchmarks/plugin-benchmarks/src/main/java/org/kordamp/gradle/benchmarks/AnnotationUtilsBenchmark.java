@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.benchmarks;
+
+import org.kordamp.gradle.annotations.DependsOn;
+import org.kordamp.gradle.util.AnnotationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorts a chain of listeners shaped like the ones registered by the plugins,
+ * where each listener depends on the previous one.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnotationUtilsBenchmark {
+    @Param({"declared", "reversed"})
+    public String order;
+
+    private List<Object> listeners;
+
+    @Setup
+    public void setup() {
+        listeners = new ArrayList<>(Arrays.asList(
+            new L01(), new L02(), new L03(), new L04(), new L05(), new L06(),
+            new L07(), new L08(), new L09(), new L10(), new L11(), new L12()));
+        if ("reversed".equals(order)) Collections.reverse(listeners);
+    }
+
+    @Benchmark
+    public Map<String, Object> sortByDependencies() {
+        return AnnotationUtils.sortByDependencies("benchmark", listeners, "", "listener");
+    }
+
+    @Named("l01")
+    static class L01 {
+    }
+
+    @Named("l02")
+    @DependsOn({"l01"})
+    static class L02 {
+    }
+
+    @Named("l03")
+    @DependsOn({"l02"})
+    static class L03 {
+    }
+
+    @Named("l04")
+    @DependsOn({"l03"})
+    static class L04 {
+    }
+
+    @Named("l05")
+    @DependsOn({"l04"})
+    static class L05 {
+    }
+
+    @Named("l06")
+    @DependsOn({"l05", "l01"})
+    static class L06 {
+    }
+
+    @Named("l07")
+    @DependsOn({"l06"})
+    static class L07 {
+    }
+
+    @Named("l08")
+    @DependsOn({"l07"})
+    static class L08 {
+    }
+
+    @Named("l09")
+    @DependsOn({"l08", "l03"})
+    static class L09 {
+    }
+
+    @Named("l10")
+    @DependsOn({"l09"})
+    static class L10 {
+    }
+
+    @Named("l11")
+    @DependsOn({"l10"})
+    static class L11 {
+    }
+
+    @Named("l12")
+    @DependsOn({"l11", "l06"})
+    static class L12 {
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.benchmarks;
+
+import org.gradle.api.Project;
+import org.gradle.api.invocation.Gradle;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.kordamp.gradle.util.Cache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+    @Param({"1024", "262144"})
+    public int size;
+
+    /**
+     * Whether the in-memory tier in front of the file cache is enabled.
+     */
+    @Param({"true", "false"})
+    public boolean memory;
+
+    private Gradle gradle;
+    private Cache cache;
+    private Cache.Key readKey;
+    private Cache.Key writeKey;
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws IOException {
+        System.setProperty("org.kordamp.gradle.cache.memory.size", memory ? "32m" : "0");
+        System.setProperty("org.kordamp.gradle.cache.eviction", "false");
+
+        Project project = ProjectBuilder.builder()
+            .withName("benchmark")
+            .withGradleUserHomeDir(Files.createTempDirectory("kordamp-cache-benchmark").toFile())
+            .build();
+        gradle = project.getGradle();
+        cache = Cache.getInstance();
+        readKey = Cache.key("benchmark-read-" + size);
+        writeKey = Cache.key("benchmark-write-" + size);
+
+        payload = new byte[size];
+        new Random(size).nextBytes(payload);
+        cache.put(gradle, readKey, out -> write(out));
+    }
+
+    @Benchmark
+    public boolean put() {
+        return cache.put(gradle, writeKey, out -> write(out));
+    }
+
+    @Benchmark
+    public boolean get(Blackhole blackhole) {
+        return cache.get(gradle, readKey, in -> consume(in, blackhole));
+    }
+
+    private void write(OutputStream out) {
+        try {
+            out.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void consume(InputStream in, Blackhole blackhole) {
+        byte[] buffer = new byte[8192];
+        try {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                blackhole.consume(read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.benchmarks;
+
+import org.kordamp.gradle.util.Algorithm;
+import org.kordamp.gradle.util.ChecksumUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChecksumBenchmark {
+    @Param({"MD5", "SHA_1", "SHA_256", "SHA_512"})
+    public String algorithm;
+
+    @Param({"1024", "1048576"})
+    public int size;
+
+    private Algorithm selected;
+    private byte[] data;
+    private File file;
+
+    @Setup
+    public void setup() throws IOException {
+        selected = Algorithm.valueOf(algorithm);
+        data = new byte[size];
+        new Random(size).nextBytes(data);
+        file = File.createTempFile("checksum-benchmark", ".bin");
+        Files.write(file.toPath(), data);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public String checksum() throws IOException {
+        return ChecksumUtils.checksum(selected, data);
+    }
+
+    @Benchmark
+    public String checksumFile() throws IOException {
+        return ChecksumUtils.checksum(selected, file);
+    }
+}
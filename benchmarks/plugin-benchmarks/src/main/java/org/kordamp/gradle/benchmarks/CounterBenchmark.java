@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.benchmarks;
+
+import org.kordamp.gradle.plugin.stats.counter.JavaCounter;
+import org.kordamp.gradle.plugin.stats.counter.XmlCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the byte based sourcestats counters with their line based fallback.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CounterBenchmark {
+    @Param({"java", "xml"})
+    public String type;
+
+    @Param({"100", "10000"})
+    public int lines;
+
+    private File file;
+    private Java java;
+    private Xml xml;
+
+    @Setup
+    public void setup() throws IOException {
+        file = File.createTempFile("counter-benchmark", "." + type);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            text.append("java".equals(type) ? javaLine(i) : xmlLine(i)).append('\n');
+        }
+        Files.write(file.toPath(), text.toString().getBytes(StandardCharsets.UTF_8));
+        java = new Java();
+        xml = new Xml();
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public int bytes() {
+        return "java".equals(type) ? java.count(file) : xml.count(file);
+    }
+
+    @Benchmark
+    public int lines() {
+        return "java".equals(type) ? java.countLines(file) : xml.countLines(file);
+    }
+
+    private static String javaLine(int i) {
+        switch (i % 8) {
+            case 0:
+                return "/* block comment " + i + " */";
+            case 1:
+                return "    // line comment";
+            case 2:
+                return "";
+            case 3:
+                return "/**";
+            case 4:
+                return " * javadoc " + i;
+            case 5:
+                return " */";
+            default:
+                return "    int value" + i + " = compute(" + i + "); /* trailing */";
+        }
+    }
+
+    private static String xmlLine(int i) {
+        switch (i % 6) {
+            case 0:
+                return "<!-- comment " + i + " -->";
+            case 1:
+                return "<!--";
+            case 2:
+                return "  commented out " + i;
+            case 3:
+                return "-->";
+            case 4:
+                return "";
+            default:
+                return "  <element id=\"" + i + "\">value</element>";
+        }
+    }
+
+    private static final class Java extends JavaCounter {
+        @Override
+        public int countLines(File file) {
+            return super.countLines(file);
+        }
+    }
+
+    private static final class Xml extends XmlCounter {
+        @Override
+        public int countLines(File file) {
+            return super.countLines(file);
+        }
+    }
+}
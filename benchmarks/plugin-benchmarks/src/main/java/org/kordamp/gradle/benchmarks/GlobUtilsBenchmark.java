@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.benchmarks;
+
+import org.kordamp.gradle.util.GlobUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobUtilsBenchmark {
+    @Param({"*-gradle-plugin", ":plugins:*", "**/src/{main,test}/**/*.groovy"})
+    public String pattern;
+
+    private String path;
+
+    @Setup
+    public void setup() {
+        path = pattern.startsWith(":") ? ":plugins:base-gradle-plugin" : "plugins/base-gradle-plugin/src/main/groovy/Foo.groovy";
+    }
+
+    @Benchmark
+    public String asGlobRegex() {
+        return GlobUtils.asGlobRegex(pattern, true);
+    }
+
+    @Benchmark
+    public boolean asGlobRegexAndMatch() {
+        return path.matches(GlobUtils.asGlobRegex(pattern, true));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.benchmarks;
+
+import org.gradle.api.Project;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.kordamp.gradle.property.PropertyUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves a property through environment variables, System properties and project properties,
+ * the way plugin extensions do when a value is not set explicitly.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyUtilsBenchmark {
+    /**
+     * Where the value is found: a project property, a System property or nowhere.
+     */
+    @Param({"project", "system", "missing"})
+    public String source;
+
+    private Provider<String> provider;
+
+    @Setup
+    public void setup() {
+        Project project = ProjectBuilder.builder().withName("benchmark").build();
+        if ("project".equals(source)) {
+            project.getExtensions().getExtraProperties().set("benchmark.value", "project");
+        } else if ("system".equals(source)) {
+            System.setProperty("benchmark.value", "system");
+        } else {
+            System.clearProperty("benchmark.value");
+        }
+
+        Property<String> property = project.getObjects().property(String.class);
+        provider = PropertyUtils.stringProvider("BENCHMARK_VALUE", "benchmark.value", property, project, project);
+    }
+
+    @Benchmark
+    public String resolveValue() {
+        return provider.getOrNull();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.listener
+
+import groovy.transform.Canonical
+import groovy.transform.CompileStatic
+
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Aggregated invocation times of listeners managed by {@code ProjectEvaluationListenerManager}.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+class ListenerTimings {
+    static final String PROJECT_EVALUATED = 'project-evaluated'
+    static final String ALL_PROJECTS_EVALUATED = 'all-projects-evaluated'
+    static final String TASK_GRAPH = 'task-graph'
+
+    private final Map<Key, Stats> entries = new ConcurrentHashMap<>()
+
+    @Canonical
+    @CompileStatic
+    static class Key {
+        final String event
+        final String listener
+        final String project
+    }
+
+    @CompileStatic
+    static class Stats {
+        private long count
+        private long total
+        private long max
+
+        synchronized void add(long nanos) {
+            count++
+            total += nanos
+            max = Math.max(max, nanos)
+        }
+
+        synchronized void add(Stats other) {
+            count += other.count
+            total += other.total
+            max = Math.max(max, other.max)
+        }
+
+        synchronized long getCount() { count }
+
+        synchronized long getTotal() { total }
+
+        synchronized long getMax() { max }
+
+        /**
+         * Total time in seconds.
+         */
+        double getDuration() {
+            getTotal() / 1_000_000_000d
+        }
+    }
+
+    void record(String event, Object listener, String projectPath, long nanos) {
+        entries.computeIfAbsent(new Key(event, listener.getClass().name, projectPath), { k -> new Stats() })
+            .add(nanos)
+    }
+
+    boolean isEmpty() {
+        entries.isEmpty()
+    }
+
+    Map<Key, Stats> getEntries() {
+        sort(entries)
+    }
+
+    /**
+     * Times aggregated by listener class, slowest first.
+     */
+    Map<String, Stats> getByListener() {
+        Map<String, Stats> result = [:]
+        for (Map.Entry<Key, Stats> e : entries.entrySet()) {
+            result.computeIfAbsent(e.key.listener, { k -> new Stats() }).add(e.value)
+        }
+        sort(result)
+    }
+
+    /**
+     * Times aggregated by project path, slowest first.
+     */
+    Map<String, Stats> getByProject() {
+        Map<String, Stats> result = [:]
+        for (Map.Entry<Key, Stats> e : entries.entrySet()) {
+            result.computeIfAbsent(e.key.project, { k -> new Stats() }).add(e.value)
+        }
+        sort(result)
+    }
+
+    private static <K> Map<K, Stats> sort(Map<K, Stats> map) {
+        List<Map.Entry<K, Stats>> list = new ArrayList<>(map.entrySet())
+        list.sort { Map.Entry<K, Stats> a, Map.Entry<K, Stats> b -> Long.compare(b.value.total, a.value.total) }
+        Map<K, Stats> sorted = new LinkedHashMap<>()
+        for (Map.Entry<K, Stats> e : list) {
+            sorted.put(e.key, e.value)
+        }
+        sorted
+    }
+}
@@ -32,6 +32,7 @@ import org.slf4j.LoggerFactory
 import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.CopyOnWriteArrayList
 
+import static org.kordamp.gradle.util.AnnotationUtils.clearSortCache
 import static org.kordamp.gradle.util.AnnotationUtils.sortByDependencies
 
 /**
@@ -45,6 +46,7 @@ class ProjectEvaluationListenerManager {
     private final Map<Project, List<ProjectEvaluatedListener>> projectEvaluatedListeners = new ConcurrentHashMap<>()
     private final List<AllProjectsEvaluatedListener> allProjectsEvaluatedListeners = new CopyOnWriteArrayList<>()
     private final List<TaskGraphReadyListener> taskGraphReadyListeners = new CopyOnWriteArrayList<>()
+    private final ListenerTimings timings = new ListenerTimings()
 
     private static Map<Gradle, ProjectEvaluationListenerManager> instances = [:]
 
@@ -84,13 +86,28 @@ class ProjectEvaluationListenerManager {
         }
     }
 
+    /**
+     * Returns the invocation times of listeners registered for the given build, {@code null} if
+     * no manager was registered. Times keep accumulating until the end of the build.
+     *
+     * @since 0.55.0
+     */
+    static ListenerTimings timings(Gradle gradle) {
+        instances.get(gradle)?.timings
+    }
+
     private Listener listener = new Listener()
 
     private void fireTaskGraphReadyListener(Project rootProject, TaskExecutionGraph graph) {
         Map<String, TaskGraphReadyListener> sortedListeners = sortByDependencies('task-graph', taskGraphReadyListeners, '', 'listener')
         for (TaskGraphReadyListener listener : sortedListeners.values()) {
             LOG.debug('[task-graph] Invoking listener {}', listener)
-            listener.taskGraphReady(rootProject, graph)
+            long start = System.nanoTime()
+            try {
+                listener.taskGraphReady(rootProject, graph)
+            } finally {
+                timings.record(ListenerTimings.TASK_GRAPH, listener, rootProject.path, System.nanoTime() - start)
+            }
         }
     }
 
@@ -107,7 +124,12 @@ class ProjectEvaluationListenerManager {
             Map<String, ProjectEvaluatedListener> sortedListeners = sortByDependencies('project-evaluated:' + project.name, listeners, '', 'listener')
             for (ProjectEvaluatedListener listener : sortedListeners.values()) {
                 LOG.debug('[project-evaluated:{}] Invoking listener {}', project.name, listener)
-                listener.projectEvaluated(project)
+                long start = System.nanoTime()
+                try {
+                    listener.projectEvaluated(project)
+                } finally {
+                    timings.record(ListenerTimings.PROJECT_EVALUATED, listener, project.path, System.nanoTime() - start)
+                }
             }
         }
 
@@ -116,7 +138,12 @@ class ProjectEvaluationListenerManager {
             Map<String, AllProjectsEvaluatedListener> sortedListeners = sortByDependencies('all-projects-evaluated', allProjectsEvaluatedListeners, '', 'listener')
             for (AllProjectsEvaluatedListener listener : sortedListeners.values()) {
                 LOG.debug('[all-projects-evaluated] Invoking listener {}', listener)
-                listener.allProjectsEvaluated(gradle.rootProject)
+                long start = System.nanoTime()
+                try {
+                    listener.allProjectsEvaluated(gradle.rootProject)
+                } finally {
+                    timings.record(ListenerTimings.ALL_PROJECTS_EVALUATED, listener, gradle.rootProject.path, System.nanoTime() - start)
+                }
             }
         }
 
@@ -126,6 +153,7 @@ class ProjectEvaluationListenerManager {
             allProjectsEvaluatedListeners.clear()
             taskGraphReadyListeners.clear()
             instances.remove(result.gradle)
+            clearSortCache()
         }
     }
 }
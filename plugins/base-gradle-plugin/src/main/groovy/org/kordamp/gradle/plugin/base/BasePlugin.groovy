@@ -37,6 +37,7 @@ import org.kordamp.gradle.plugin.base.tasks.ExtensionSettingsTask
 import org.kordamp.gradle.plugin.base.tasks.ExtensionsTask
 import org.kordamp.gradle.plugin.base.tasks.ListIncludedBuildsTask
 import org.kordamp.gradle.plugin.base.tasks.ListProjectsTask
+import org.kordamp.gradle.plugin.base.tasks.ListenerTimingsTask
 import org.kordamp.gradle.plugin.base.tasks.PluginsTask
 import org.kordamp.gradle.plugin.base.tasks.ProjectPropertiesTask
 import org.kordamp.gradle.plugin.base.tasks.RepositoriesTask
@@ -344,6 +345,15 @@ class BasePlugin extends AbstractKordampPlugin {
                         t.description = 'List all included builds.'
                     }
                 })
+
+            project.tasks.register('listenerTimings', ListenerTimingsTask,
+                new Action<ListenerTimingsTask>() {
+                    @Override
+                    void execute(ListenerTimingsTask t) {
+                        t.group = 'Insight'
+                        t.description = 'Displays the time spent in Kordamp configuration listeners.'
+                    }
+                })
         }
     }
 
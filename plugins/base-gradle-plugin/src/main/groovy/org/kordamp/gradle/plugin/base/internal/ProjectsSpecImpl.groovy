@@ -23,10 +23,9 @@ import org.gradle.api.Project
 import org.kordamp.gradle.plugin.base.ProjectsSpec
 import org.kordamp.gradle.util.ConfigureUtil
 
-import java.util.function.Function
-import java.util.regex.Pattern
+import org.kordamp.gradle.util.GlobUtils
 
-import static org.kordamp.gradle.util.GlobUtils.asGlobRegex
+import java.util.function.Function
 
 /**
  * @author Andres Almiray
@@ -114,24 +113,15 @@ final class ProjectsSpecImpl implements ProjectsSpec {
     }
 
     private Function<? extends Project, Boolean> pathFunction(String path) {
-        new Function<Project, Boolean>() {
-            @Override
-            Boolean apply(Project project) {
-                path == project.path || Pattern.compile(asGlobRegex(path, true)).matcher(project.path).matches()
-            }
-        }
+        pathFunction([path])
     }
 
     private Function<? extends Project, Boolean> pathFunction(List<String> paths) {
+        GlobUtils.GlobMatcher matcher = GlobUtils.pathMatcher(paths)
         new Function<Project, Boolean>() {
             @Override
             Boolean apply(Project project) {
-                for (String path : paths) {
-                    if (path == project.path || Pattern.compile(asGlobRegex(path, true)).matcher(project.path).matches()) {
-                        return true
-                    }
-                }
-                false
+                matcher.matches(project.path)
             }
         }
     }
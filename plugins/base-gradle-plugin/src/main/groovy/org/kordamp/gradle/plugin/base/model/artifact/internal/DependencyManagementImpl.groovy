@@ -25,6 +25,8 @@ import org.gradle.api.Action
 import org.gradle.api.Project
 import org.gradle.api.artifacts.Configuration
 import org.gradle.api.artifacts.DependencyResolveDetails
+import org.gradle.api.artifacts.ModuleVersionIdentifier
+import org.gradle.api.artifacts.ResolvedArtifact
 import org.kordamp.gradle.plugin.base.ProjectConfigurationExtension
 import org.kordamp.gradle.plugin.base.model.artifact.Dependency
 import org.kordamp.gradle.plugin.base.model.artifact.DependencyManagement
@@ -34,9 +36,12 @@ import org.kordamp.gradle.plugin.base.model.artifact.PlatformSpec
 import org.kordamp.gradle.util.Cache
 import org.kordamp.gradle.util.CollectionUtils
 import org.kordamp.gradle.util.ConfigureUtil
+import org.kordamp.gradle.util.TimeUtils
 
+import java.nio.channels.FileChannel
+import java.util.concurrent.Callable
 import java.util.concurrent.CopyOnWriteArrayList
-import java.util.function.Consumer
+import java.util.function.Function
 
 import static org.kordamp.gradle.util.StringUtils.isBlank
 import static org.kordamp.gradle.util.StringUtils.isNotBlank
@@ -47,21 +52,25 @@ import static org.kordamp.gradle.util.StringUtils.isNotBlank
  */
 @CompileStatic
 class DependencyManagementImpl implements DependencyManagement {
+    private static final String ORG_KORDAMP_GRADLE_BASE_PLATFORM_THREADS = 'org.kordamp.gradle.base.platform.threads'
+
     final Project project
     protected final ProjectConfigurationExtension config
     private final Map<String, Dependency> dependencies = [:]
     private final List<DeferredPlatformModule> deferredPlatformModules = new CopyOnWriteArrayList<>()
 
     private boolean resolved
+    private volatile Map<String, Dependency> gaIndex
 
     private final ConfigurationContainer configurationContainer
+    private final ResolutionDispatcher dispatcher = new ResolutionDispatcher()
     private final EffectivePomResolver effectivePomResolver
 
     DependencyManagementImpl(ProjectConfigurationExtension config, Project project) {
         this.config = config
         this.project = project
         this.configurationContainer = new ConfigurationContainer(project)
-        this.effectivePomResolver = new EffectivePomResolver(project, configurationContainer)
+        this.effectivePomResolver = new EffectivePomResolver(project, configurationContainer, dispatcher)
     }
 
     @Override
@@ -77,12 +86,19 @@ class DependencyManagementImpl implements DependencyManagement {
 
     static void merge(DependencyManagementImpl o1, DependencyManagementImpl o2) {
         CollectionUtils.merge(o1.@dependencies, o2.@dependencies)
+        o1.@gaIndex = null
+    }
+
+    private <D extends Dependency> D register(D dependency) {
+        dependencies[dependency.name] = dependency
+        gaIndex = null
+        dependency
     }
 
     @Override
     Dependency dependency(Dependency dependency) {
         if (dependency) {
-            dependencies[dependency.name] = dependency
+            register(dependency)
         }
 
         dependency
@@ -95,7 +111,7 @@ class DependencyManagementImpl implements DependencyManagement {
         }
         DependencySpecImpl d = (DependencySpecImpl) DependencyUtils.parsePartialDependency(project.rootProject, gavNotation)
         d.validate(project)
-        dependencies[d.name] = d.asDependency()
+        register(d.asDependency())
     }
 
     @Override
@@ -105,7 +121,7 @@ class DependencyManagementImpl implements DependencyManagement {
         }
         DependencySpecImpl d = (DependencySpecImpl) DependencyUtils.parseDependency(project.rootProject, name.trim(), gavNotation)
         d.validate(project)
-        dependencies[d.name] = d.asDependency()
+        register(d.asDependency())
     }
 
     @Override
@@ -116,7 +132,7 @@ class DependencyManagementImpl implements DependencyManagement {
         DependencySpecImpl d = (DependencySpecImpl) DependencyUtils.parseDependency(project.rootProject, name.trim(), gavNotation)
         action.execute(d)
         d.validate(project)
-        dependencies[d.name] = d.asDependency()
+        register(d.asDependency())
     }
 
     @Override
@@ -127,7 +143,7 @@ class DependencyManagementImpl implements DependencyManagement {
         DependencySpecImpl d = (DependencySpecImpl) DependencyUtils.parseDependency(project.rootProject, name.trim(), gavNotation)
         ConfigureUtil.configure(action, d)
         d.validate(project)
-        dependencies[d.name] = d.asDependency()
+        register(d.asDependency())
     }
 
     @Override
@@ -138,7 +154,7 @@ class DependencyManagementImpl implements DependencyManagement {
         DependencySpecImpl d = (DependencySpecImpl) DependencyUtils.parsePartialDependency(project.rootProject, gavNotation.trim())
         action.execute(d)
         d.validate(project)
-        dependencies[d.name] = d.asDependency()
+        register(d.asDependency())
     }
 
     @Override
@@ -149,7 +165,7 @@ class DependencyManagementImpl implements DependencyManagement {
         DependencySpecImpl d = (DependencySpecImpl) DependencyUtils.parsePartialDependency(project.rootProject, gavNotation.trim())
         ConfigureUtil.configure(action, d)
         d.validate(project)
-        dependencies[d.name] = d.asDependency()
+        register(d.asDependency())
     }
 
     @Override
@@ -159,7 +175,7 @@ class DependencyManagementImpl implements DependencyManagement {
         }
         PlatformSpecImpl d = (PlatformSpecImpl) DependencyUtils.parsePartialPlatform(project.rootProject, gavNotation)
         d.validate(project)
-        dependencies[d.name] = d.asPlatform()
+        register(d.asPlatform())
     }
 
     @Override
@@ -169,7 +185,7 @@ class DependencyManagementImpl implements DependencyManagement {
         }
         PlatformSpecImpl d = (PlatformSpecImpl) DependencyUtils.parsePlatform(project.rootProject, name.trim(), gavNotation)
         d.validate(project)
-        dependencies[d.name] = d.asPlatform()
+        register(d.asPlatform())
     }
 
     @Override
@@ -180,7 +196,7 @@ class DependencyManagementImpl implements DependencyManagement {
         PlatformSpecImpl d = (PlatformSpecImpl) DependencyUtils.parsePlatform(project.rootProject, name.trim(), gavNotation)
         action.execute(d)
         d.validate(project)
-        dependencies[d.name] = d.asPlatform()
+        register(d.asPlatform())
     }
 
     @Override
@@ -191,7 +207,7 @@ class DependencyManagementImpl implements DependencyManagement {
         PlatformSpecImpl d = (PlatformSpecImpl) DependencyUtils.parsePlatform(project.rootProject, name.trim(), gavNotation)
         ConfigureUtil.configure(action, d)
         d.validate(project)
-        dependencies[d.name] = d.asPlatform()
+        register(d.asPlatform())
     }
 
     @Override
@@ -255,11 +271,9 @@ class DependencyManagementImpl implements DependencyManagement {
             throw new IllegalArgumentException('Dependency artifactId cannot be blank.')
         }
 
-        for (Dependency dependency : dependencies.values()) {
-            if (dependency.groupId == groupId &&
-                (dependency.artifactId == artifactId || dependency.modules.contains(artifactId))) {
-                return dependency
-            }
+        Dependency dependency = resolveGaIndex().get(groupId + ':' + artifactId)
+        if (dependency) {
+            return dependency
         }
         if (project != project.rootProject) {
             return project.rootProject.extensions
@@ -270,6 +284,31 @@ class DependencyManagementImpl implements DependencyManagement {
         null
     }
 
+    private Map<String, Dependency> resolveGaIndex() {
+        Map<String, Dependency> index = gaIndex
+        if (index == null) {
+            index = buildGaIndex()
+            gaIndex = index
+        }
+        index
+    }
+
+    private Map<String, Dependency> buildGaIndex() {
+        // only declared dependencies and their modules, versions of modules managed by
+        // platforms are left to Gradle so that explicitly requested versions are honoured
+        Map<String, Dependency> index = new HashMap<>()
+        for (Dependency dependency : dependencies.values()) {
+            index.putIfAbsent(dependency.ga, dependency)
+            if (!(dependency instanceof Platform)) {
+                for (String moduleName : dependency.moduleNames) {
+                    index.putIfAbsent(dependency.groupId + ':' + moduleName, dependency)
+                }
+            }
+        }
+
+        index
+    }
+
     @Override
     Platform findPlatform(String nameOrGa) {
         Dependency d = findDependency(nameOrGa)
@@ -416,54 +455,118 @@ class DependencyManagementImpl implements DependencyManagement {
     }
 
     private void resolvePlatforms(Set<Platform> platforms) {
-        for (Platform platform : platforms) {
-            if (!platform.moduleNames) {
-                resolvePlatform(platform)
+        List<Platform> pending = platforms.findAll { Platform p -> !((PlatformImpl) p).resolved }.toList()
+        if (!pending) return
+
+        Map<Platform, File> bomFiles = resolveBomFiles(pending)
+        Function<FileChannel, ModuleIndex> decoder = { FileChannel channel -> ModuleIndex.map(channel) }
+
+        List<PlatformResolution> resolutions = []
+        for (Platform platform : pending) {
+            long start = System.nanoTime()
+            try {
+                File bomFile = bomFiles.get(platform) ?: resolveBomFile(platform)
+                Cache.Key key = Cache.getInstance().key(keyValueFor(platform, bomFile))
+
+                ModuleIndex modules = Cache.getInstance().map(project.gradle, key, decoder)
+                if (modules != null) {
+                    ((PlatformImpl) platform).setModules(modules)
+                    logTiming(platform, start, true)
+                } else {
+                    resolutions << new PlatformResolution(platform, bomFile, key, start)
+                }
+            } catch (Exception e) {
+                e.printStackTrace()
             }
         }
-    }
 
-    private void resolvePlatform(Platform platform) {
-        try {
-            File bomFile = project.configurations.detachedConfiguration(
-                project.dependencies.create(platform.asGav() + '@pom')
-            ).singleFile
+        if (!resolutions) return
 
-            Map<String, String> modules = [:]
+        // effective models are built in parallel, results are applied in declaration order
+        List<Callable<Map<String, String>>> tasks = resolutions.collect { PlatformResolution r ->
+            (Callable<Map<String, String>>) { -> harvestPlatform(r) }
+        }
+        List<Map<String, String>> results = dispatcher.invokeAll(tasks, resolveThreads())
 
-            Cache.Key key = Cache.getInstance().key(keyValueFor(platform, bomFile))
+        for (int i = 0; i < resolutions.size(); i++) {
+            PlatformResolution resolution = resolutions[i]
+            Map<String, String> harvested = results[i]
+            if (harvested == null) continue
 
-            Consumer<BufferedReader> reader = { BufferedReader r ->
-                r.readLines().each { String line ->
-                    String[] parts = line.split('=')
-                    modules.put(parts[0], parts[1])
-                }
-            }
+            Cache.getInstance().put(project.gradle, resolution.key) { OutputStream out -> ModuleIndex.write(harvested, out) }
+            ModuleIndex modules = Cache.getInstance().map(project.gradle, resolution.key, decoder) ?: ModuleIndex.of(harvested)
+            ((PlatformImpl) resolution.platform).setModules(modules)
+            logTiming(resolution.platform, resolution.start, false)
+        }
+    }
 
-            if (!Cache.getInstance().read(project.gradle, key, reader)) {
-                Model model = effectivePomResolver.resolve(bomFile)
-                if (!model) {
-                    throw new IllegalStateException("Errors occurred while resolving platform ${platform.asGav()}")
-                }
+    private Map<Platform, File> resolveBomFiles(List<Platform> platforms) {
+        // a single configuration lets Gradle fetch all BOMs concurrently
+        Configuration configuration = project.configurations.detachedConfiguration(platforms.collect { Platform p ->
+            project.dependencies.create(p.asGav() + '@pom')
+        } as org.gradle.api.artifacts.Dependency[])
 
-                harvestModules(model.dependencyManagement, modules)
-                harvestModules(model.dependencies, modules)
+        Map<String, File> files = [:]
+        for (ResolvedArtifact artifact : configuration.resolvedConfiguration.lenientConfiguration.artifacts) {
+            ModuleVersionIdentifier id = artifact.moduleVersion.id
+            files.put("${id.group}:${id.name}:${id.version}".toString(), artifact.file)
+        }
 
-                Cache.getInstance().write(project.gradle, key) { w ->
-                    modules.each { k, v -> w.write("${k}=${v}\n".toString()) }
-                }
+        Map<Platform, File> bomFiles = [:]
+        for (Platform platform : platforms) {
+            File file = files.get(platform.asGav())
+            if (file) bomFiles.put(platform, file)
+        }
+        bomFiles
+    }
+
+    private File resolveBomFile(Platform platform) {
+        project.configurations.detachedConfiguration(
+            project.dependencies.create(platform.asGav() + '@pom')
+        ).singleFile
+    }
+
+    private Map<String, String> harvestPlatform(PlatformResolution resolution) {
+        try {
+            Model model = effectivePomResolver.resolve(resolution.bomFile)
+            if (!model) {
+                throw new IllegalStateException("Errors occurred while resolving platform ${resolution.platform.asGav()}")
             }
-            ((PlatformImpl) platform).setModules(modules)
+
+            Map<String, String> harvested = [:]
+            harvestModules(model.dependencyManagement, harvested)
+            harvestModules(model.dependencies, harvested)
+            return harvested
         } catch (Exception e) {
             e.printStackTrace()
         }
+        null
+    }
+
+    private int resolveThreads() {
+        String value = System.getProperty(ORG_KORDAMP_GRADLE_BASE_PLATFORM_THREADS)
+        if (isNotBlank(value)) {
+            try {
+                return Integer.parseInt(value.trim())
+            } catch (NumberFormatException ignored) {
+                // use default
+            }
+        }
+        Math.min(Runtime.runtime.availableProcessors(), 4)
     }
 
-    private Object keyValueFor(Platform platform, File file) {
+    private void logTiming(Platform platform, long start, boolean cached) {
+        double duration = (System.nanoTime() - start) / 1_000_000_000d
+        project.logger.info("Resolved platform ${platform.asGav()} in ${TimeUtils.formatDuration(duration)}${cached ? ' (cached)' : ''}")
+    }
+
+    private String keyValueFor(Platform platform, File file) {
+        // the key is versioned, older plugin versions keep reading their own text entries
+        String suffix = ':modules-v' + ModuleIndex.VERSION
         if (platform.version.endsWith('-SNAPSHOT')) {
-            return platform.gav + file.lastModified()
+            return platform.gav + file.lastModified() + suffix
         }
-        return platform.gav
+        return platform.gav + suffix
     }
 
     private void harvestModules(org.apache.maven.model.DependencyManagement dependencyManagement, Map<String, String> modules) {
@@ -497,6 +600,14 @@ class DependencyManagementImpl implements DependencyManagement {
         deferredPlatformModules.clear()
     }
 
+    @Canonical
+    private static class PlatformResolution {
+        final Platform platform
+        final File bomFile
+        final Cache.Key key
+        final long start
+    }
+
     @Canonical
     private static class DeferredPlatformModule {
         final Project project
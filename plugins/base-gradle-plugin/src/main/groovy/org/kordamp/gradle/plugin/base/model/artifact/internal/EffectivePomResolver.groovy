@@ -39,6 +39,7 @@ import org.apache.maven.model.resolution.UnresolvableModelException
 import org.gradle.api.Project
 import org.gradle.api.artifacts.Configuration
 
+import java.util.concurrent.Callable
 import java.util.concurrent.ConcurrentHashMap
 
 /**
@@ -52,9 +53,9 @@ class EffectivePomResolver {
     private final ModelResolver modelResolver
     private final ModelCache modelCache = new InMemoryModelCache()
 
-    EffectivePomResolver(Project project, ConfigurationContainer configurationContainer) {
+    EffectivePomResolver(Project project, ConfigurationContainer configurationContainer, ResolutionDispatcher dispatcher) {
         this.project = project
-        this.modelResolver = new ConfigurationBasedModelResolver(project, configurationContainer)
+        this.modelResolver = new ConfigurationBasedModelResolver(project, configurationContainer, dispatcher)
     }
 
     Model resolve(File pom) {
@@ -97,11 +98,13 @@ class EffectivePomResolver {
     private static class ConfigurationBasedModelResolver implements ModelResolver {
         private final Project project
         private final ConfigurationContainer configurationContainer
-        private final Map<String, FileModelSource> cache = new LinkedHashMap<>()
+        private final ResolutionDispatcher dispatcher
+        private final Map<String, FileModelSource> cache = new ConcurrentHashMap<>()
 
-        ConfigurationBasedModelResolver(Project project, ConfigurationContainer configurationContainer) {
+        ConfigurationBasedModelResolver(Project project, ConfigurationContainer configurationContainer, ResolutionDispatcher dispatcher) {
             this.project = project
             this.configurationContainer = configurationContainer
+            this.dispatcher = dispatcher
         }
 
         @Override
@@ -124,9 +127,14 @@ class EffectivePomResolver {
         }
 
         private FileModelSource resolveDependency(String coordinates) {
-            org.gradle.api.artifacts.Dependency dependency = project.getDependencies().create(coordinates)
-            Configuration configuration = configurationContainer.newConfiguration(dependency)
-            new FileModelSource(configuration.resolve()[0])
+            dispatcher.call(new Callable<FileModelSource>() {
+                @Override
+                FileModelSource call() throws Exception {
+                    org.gradle.api.artifacts.Dependency dependency = project.getDependencies().create(coordinates)
+                    Configuration configuration = configurationContainer.newConfiguration(dependency)
+                    new FileModelSource(configuration.resolve()[0])
+                }
+            })
         }
 
         @Override
@@ -0,0 +1,237 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.base.model.artifact.internal
+
+import groovy.transform.CompileStatic
+import groovy.transform.PackageScope
+
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.charset.StandardCharsets
+
+/**
+ * Read-only {@code artifactId -> gav} index of the modules defined by a platform.
+ * <p>
+ * Entries are stored in a compact binary format sorted by key, which can be memory mapped
+ * and searched in place without decoding the whole index.
+ * <pre>
+ * int   magic
+ * int   version
+ * int   count
+ * int[] offsets (one per entry, absolute)
+ * entries: short keyLength, byte[] key, short valueLength, byte[] value
+ * </pre>
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+@PackageScope
+class ModuleIndex {
+    private static final int MAGIC = 0x4B4D4F44
+    static final int VERSION = 1
+    private static final int HEADER_SIZE = 12
+
+    static final ModuleIndex EMPTY = of([:])
+
+    private final ByteBuffer buffer
+    private final int count
+    private volatile Set<String> keys
+    private volatile Set<String> values
+
+    private ModuleIndex(ByteBuffer buffer, int count) {
+        this.buffer = buffer
+        this.count = count
+    }
+
+    /**
+     * Creates a heap based index with the given modules.
+     */
+    static ModuleIndex of(Map<String, String> modules) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        write(modules, out)
+        read(ByteBuffer.wrap(out.toByteArray()))
+    }
+
+    /**
+     * Memory maps an index. Returns {@code null} if the contents do not match the expected format
+     * or the index is truncated.
+     */
+    static ModuleIndex map(FileChannel channel) {
+        read(channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size()))
+    }
+
+    static void write(Map<String, String> modules, OutputStream out) {
+        List<byte[][]> entries = new ArrayList<>(modules.size())
+        modules.each { String k, String v ->
+            entries << ([k.getBytes(StandardCharsets.UTF_8), v.getBytes(StandardCharsets.UTF_8)] as byte[][])
+        }
+        entries.sort(new Comparator<byte[][]>() {
+            @Override
+            int compare(byte[][] e1, byte[][] e2) {
+                compareBytes(e1[0], e2[0])
+            }
+        })
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out))
+        data.writeInt(MAGIC)
+        data.writeInt(VERSION)
+        data.writeInt(entries.size())
+        int offset = HEADER_SIZE + 4 * entries.size()
+        for (byte[][] entry : entries) {
+            data.writeInt(offset)
+            offset += 4 + entry[0].length + entry[1].length
+        }
+        for (byte[][] entry : entries) {
+            data.writeShort(entry[0].length)
+            data.write(entry[0])
+            data.writeShort(entry[1].length)
+            data.write(entry[1])
+        }
+        data.flush()
+    }
+
+    private static ModuleIndex read(ByteBuffer buffer) {
+        int limit = buffer.limit()
+        if (limit < HEADER_SIZE ||
+            buffer.getInt(0) != MAGIC ||
+            buffer.getInt(4) != VERSION) {
+            return null
+        }
+        int count = buffer.getInt(8)
+        if (count < 0 || limit < HEADER_SIZE + 4L * count) {
+            return null
+        }
+
+        // a truncated or corrupt index must be rebuilt rather than fail on lookup
+        long entriesStart = HEADER_SIZE + 4L * count
+        for (int i = 0; i < count; i++) {
+            long offset = buffer.getInt(HEADER_SIZE + 4 * i)
+            if (offset < entriesStart || offset + 2L > limit) return null
+            long valueOffset = offset + 2L + (buffer.getShort((int) offset) & 0xffff)
+            if (valueOffset + 2L > limit) return null
+            if (valueOffset + 2L + (buffer.getShort((int) valueOffset) & 0xffff) > limit) return null
+        }
+        new ModuleIndex(buffer, count)
+    }
+
+    int size() {
+        count
+    }
+
+    boolean isEmpty() {
+        count == 0
+    }
+
+    boolean containsKey(String key) {
+        indexOf(key) >= 0
+    }
+
+    /**
+     * Returns the value mapped to the given key or {@code null} if there's no match.
+     */
+    String get(String key) {
+        if (!key) return null
+        int i = indexOf(key)
+        if (i < 0) return null
+        int offset = offsetAt(i)
+        int keyLength = unsignedShort(offset)
+        int valueOffset = offset + 2 + keyLength
+        decode(valueOffset + 2, unsignedShort(valueOffset))
+    }
+
+    Set<String> keySet() {
+        if (keys == null) {
+            Set<String> set = new LinkedHashSet<>(count)
+            for (int i = 0; i < count; i++) {
+                int offset = offsetAt(i)
+                set << decode(offset + 2, unsignedShort(offset))
+            }
+            keys = Collections.unmodifiableSet(set)
+        }
+        keys
+    }
+
+    Set<String> values() {
+        if (values == null) {
+            Set<String> set = new TreeSet<>()
+            for (int i = 0; i < count; i++) {
+                int offset = offsetAt(i)
+                int valueOffset = offset + 2 + unsignedShort(offset)
+                set << decode(valueOffset + 2, unsignedShort(valueOffset))
+            }
+            values = Collections.unmodifiableSet(set)
+        }
+        values
+    }
+
+    private int indexOf(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8)
+        int low = 0
+        int high = count - 1
+        while (low <= high) {
+            int mid = (low + high) >>> 1
+            int cmp = compareAt(offsetAt(mid), bytes)
+            if (cmp < 0) {
+                low = mid + 1
+            } else if (cmp > 0) {
+                high = mid - 1
+            } else {
+                return mid
+            }
+        }
+        -1
+    }
+
+    private int compareAt(int offset, byte[] key) {
+        int length = unsignedShort(offset)
+        int start = offset + 2
+        int n = Math.min(length, key.length)
+        for (int i = 0; i < n; i++) {
+            int cmp = (buffer.get(start + i) & 0xff) - (key[i] & 0xff)
+            if (cmp != 0) return cmp
+        }
+        length - key.length
+    }
+
+    private int offsetAt(int i) {
+        buffer.getInt(HEADER_SIZE + 4 * i)
+    }
+
+    private int unsignedShort(int offset) {
+        buffer.getShort(offset) & 0xffff
+    }
+
+    private String decode(int offset, int length) {
+        // absolute reads keep the shared buffer free of position state
+        byte[] bytes = new byte[length]
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i)
+        }
+        new String(bytes, StandardCharsets.UTF_8)
+    }
+
+    private static int compareBytes(byte[] b1, byte[] b2) {
+        int n = Math.min(b1.length, b2.length)
+        for (int i = 0; i < n; i++) {
+            int cmp = (b1[i] & 0xff) - (b2[i] & 0xff)
+            if (cmp != 0) return cmp
+        }
+        b1.length - b2.length
+    }
+}
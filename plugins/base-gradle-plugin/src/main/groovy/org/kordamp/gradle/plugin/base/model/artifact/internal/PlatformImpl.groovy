@@ -34,8 +34,7 @@ class PlatformImpl implements Platform {
     final String groupId
     final String artifactId
     final String version
-    final Map<String, String> modules = new TreeMap<>()
-    final Set<String> moduleNames = new TreeSet<>()
+    private ModuleIndex modules = ModuleIndex.EMPTY
 
     PlatformImpl(String name, String groupId, String artifactId, String version) {
         this.name = name
@@ -58,13 +57,21 @@ class PlatformImpl implements Platform {
     }
 
     @PackageScope
-    void setModules(Map<String, String> modules) {
-        this.moduleNames.addAll(modules.keySet())
-        this.modules.putAll(modules)
+    void setModules(ModuleIndex modules) {
+        this.modules = modules
+    }
+
+    @PackageScope
+    boolean isResolved() {
+        !modules.empty
     }
 
     Set<String> getModules() {
-        Collections.unmodifiableSet(this.modules.values() as Set)
+        modules.values()
+    }
+
+    Set<String> getModuleNames() {
+        modules.keySet()
     }
 
     @Override
@@ -94,8 +101,9 @@ class PlatformImpl implements Platform {
 
     @Override
     String asGav(String moduleName) {
-        if (moduleNames.contains(moduleName)) {
-            return modules.get(moduleName)
+        String gav = modules.get(moduleName)
+        if (gav) {
+            return gav
         }
         throw new IllegalArgumentException("Platform '${name}' does not define module '${moduleName}'.")
     }
@@ -107,8 +115,9 @@ class PlatformImpl implements Platform {
 
     @Override
     String asGa(String moduleName) {
-        if (moduleNames.contains(moduleName)) {
-            String[] parts = modules.get(moduleName).split(':')
+        String gav = modules.get(moduleName)
+        if (gav) {
+            String[] parts = gav.split(':')
             return "${parts[0]}:${parts[1]}".toString()
         }
         throw new IllegalArgumentException("Platform '${name}' does not define module '${moduleName}'.")
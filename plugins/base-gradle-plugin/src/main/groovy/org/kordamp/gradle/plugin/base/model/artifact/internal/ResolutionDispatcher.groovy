@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.base.model.artifact.internal
+
+import groovy.transform.CompileStatic
+import groovy.transform.PackageScope
+
+import java.util.concurrent.BlockingQueue
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.FutureTask
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Runs tasks on a bounded pool of worker threads while the calling thread keeps ownership
+ * of the project. Gradle does not allow configurations to be resolved from threads it does
+ * not manage, workers hand those requests back to the owner thread with {@code call()}.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+@PackageScope
+class ResolutionDispatcher {
+    private final BlockingQueue<FutureTask<?>> requests = new LinkedBlockingQueue<>()
+    private volatile Thread owner
+
+    /**
+     * Executes the given tasks with at most {@code threads} workers.
+     * Results are returned in the same order as the tasks.
+     */
+    public <T> List<T> invokeAll(List<Callable<T>> tasks, int threads) {
+        if (tasks.size() < 2 || threads < 2) {
+            return tasks.collect { Callable<T> task -> task.call() }
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, tasks.size()), new WorkerThreadFactory())
+        owner = Thread.currentThread()
+        try {
+            List<Future<T>> futures = tasks.collect { Callable<T> task -> pool.submit(task) }
+            while (!futures.every { Future<T> f -> f.done }) {
+                FutureTask<?> request = requests.poll(10L, TimeUnit.MILLISECONDS)
+                if (request) request.run()
+            }
+            return futures.collect { Future<T> f -> unwrap(f) }
+        } finally {
+            owner = null
+            pool.shutdownNow()
+        }
+    }
+
+    /**
+     * Executes the given callable on the owner thread, blocking the current thread until it completes.
+     */
+    public <T> T call(Callable<T> callable) {
+        Thread t = owner
+        if (t == null || t == Thread.currentThread()) {
+            return callable.call()
+        }
+
+        FutureTask<T> request = new FutureTask<>(callable)
+        requests.put(request)
+        unwrap(request)
+    }
+
+    private static <T> T unwrap(Future<T> future) {
+        try {
+            return future.get()
+        } catch (ExecutionException e) {
+            throw e.cause
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger()
+
+        @Override
+        Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, 'kordamp-platform-resolver-' + count.incrementAndGet())
+            thread.daemon = true
+            thread
+        }
+    }
+}
@@ -19,7 +19,10 @@ package org.kordamp.gradle.plugin.base.tasks
 
 import groovy.transform.CompileStatic
 import org.gradle.api.DefaultTask
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.Optional
 import org.gradle.api.tasks.TaskAction
+import org.gradle.api.tasks.options.Option
 import org.kordamp.gradle.util.Cache
 
 /**
@@ -28,8 +31,20 @@ import org.kordamp.gradle.util.Cache
  */
 @CompileStatic
 class ClearKordampFileCacheTask extends DefaultTask {
+    @Input @Optional boolean evict
+
+    @Option(option = 'evict', description = 'Evict stale entries instead of deleting the whole cache.')
+    void setEvict(boolean evict) {
+        this.evict = evict
+    }
+
     @TaskAction
     void clearCache() {
-        Cache.getInstance().clear(project.gradle)
+        if (evict) {
+            int evicted = Cache.getInstance().evict(project.gradle)
+            logger.lifecycle("Evicted ${evicted} entries from the Kordamp file cache")
+        } else {
+            Cache.getInstance().clear(project.gradle)
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.base.tasks
+
+import groovy.transform.CompileStatic
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.Optional
+import org.gradle.api.tasks.TaskAction
+import org.gradle.api.tasks.options.Option
+import org.kordamp.gradle.listener.ListenerTimings
+import org.kordamp.gradle.listener.ProjectEvaluationListenerManager
+import org.kordamp.gradle.util.TimeUtils
+
+/**
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+class ListenerTimingsTask extends AbstractReportingTask {
+    @Input @Optional boolean details
+
+    @Option(option = 'details', description = 'Display times per listener and project [OPTIONAL].')
+    void setDetails(boolean details) {
+        this.details = details
+    }
+
+    @TaskAction
+    void report() {
+        ListenerTimings timings = ProjectEvaluationListenerManager.timings(project.gradle)
+        if (!timings || timings.empty) {
+            println('No listener invocations were recorded.')
+            return
+        }
+
+        println('Listeners:')
+        timings.byListener.each { String listener, ListenerTimings.Stats stats -> printStats(listener, stats, 1) }
+        println(' ')
+
+        println('Projects:')
+        timings.byProject.each { String path, ListenerTimings.Stats stats -> printStats(path, stats, 1) }
+
+        if (details) {
+            println(' ')
+            println('Details:')
+            timings.entries.each { ListenerTimings.Key key, ListenerTimings.Stats stats ->
+                printStats("[${key.event}:${key.project}] ${key.listener}".toString(), stats, 1)
+            }
+        }
+    }
+
+    private void printStats(String name, ListenerTimings.Stats stats, int offset) {
+        println(('    ' * offset) + name + ': ' + console.cyan(TimeUtils.formatDuration(stats.duration)) +
+            " (${stats.count} invocations, max ${TimeUtils.formatDuration(stats.max / 1_000_000_000d)})")
+    }
+}
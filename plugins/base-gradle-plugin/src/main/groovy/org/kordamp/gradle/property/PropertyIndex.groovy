@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.property
+
+import groovy.transform.Canonical
+import groovy.transform.CompileStatic
+import groovy.transform.PackageScope
+import org.gradle.api.Project
+import org.gradle.api.invocation.Gradle
+
+import java.lang.ref.WeakReference
+import java.util.concurrent.ConcurrentHashMap
+
+import static org.kordamp.gradle.util.StringUtils.isBlank
+import static org.kordamp.gradle.util.StringUtils.isNotBlank
+
+/**
+ * Per build index used by {@code PropertyUtils} to resolve values.
+ * Holds the environment variables looked up during the build, read once per name, and the owner, project
+ * and global variants of every resolved key, computed once per (key, owner, project). Only the variables
+ * that are looked up are read, the configuration cache does not track unrelated variables as inputs.
+ * System properties and project properties are read live as they may be updated while the build is configured.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@PackageScope
+@CompileStatic
+final class PropertyIndex {
+    enum Source {
+        ENV, SYS, PROP
+    }
+
+    private static final Map<PropertyUtils.Order, Source[]> SOURCES = new EnumMap<>(PropertyUtils.Order)
+
+    static {
+        SOURCES.put(PropertyUtils.Order.ENV_SYS_PROP, [Source.ENV, Source.SYS, Source.PROP] as Source[])
+        SOURCES.put(PropertyUtils.Order.ENV_PROP_SYS, [Source.ENV, Source.PROP, Source.SYS] as Source[])
+        SOURCES.put(PropertyUtils.Order.SYS_ENV_PROP, [Source.SYS, Source.ENV, Source.PROP] as Source[])
+        SOURCES.put(PropertyUtils.Order.SYS_PROP_ENV, [Source.SYS, Source.PROP, Source.ENV] as Source[])
+        SOURCES.put(PropertyUtils.Order.PROP_ENV_SYS, [Source.PROP, Source.ENV, Source.SYS] as Source[])
+        SOURCES.put(PropertyUtils.Order.PROP_SYS_ENV, [Source.PROP, Source.SYS, Source.ENV] as Source[])
+    }
+
+    private static final boolean CASE_INSENSITIVE_ENV = File.separatorChar == ('\\' as char)
+    private static final String MISSING = new String('')
+
+    private static volatile PropertyIndex current
+
+    private final WeakReference<Gradle> gradle
+    private final Map<String, String> env = new ConcurrentHashMap<>()
+    private final Map<KeyId, Keys> keys = new ConcurrentHashMap<>()
+
+    private PropertyIndex(Gradle gradle) {
+        this.gradle = new WeakReference<>(gradle)
+    }
+
+    /**
+     * Returns the index of the build the given project belongs to. Included builds share the index of the root build.
+     */
+    static PropertyIndex of(Project project) {
+        Gradle gradle = project.gradle
+        while (gradle.parent != null) gradle = gradle.parent
+
+        PropertyIndex index = current
+        Gradle indexed = index?.gradle?.get()
+        if (indexed == null || !indexed.is(gradle)) {
+            index = new PropertyIndex(gradle)
+            current = index
+        }
+        index
+    }
+
+    static Source[] sources(PropertyUtils.Order order) {
+        SOURCES.get(order)
+    }
+
+    Keys keys(String envKey, String propertyKey, String ownerPath, String projectName) {
+        keys.computeIfAbsent(new KeyId(envKey, propertyKey, ownerPath, projectName), { KeyId id -> new Keys(id) })
+    }
+
+    /**
+     * Returns the first non blank value found in the given sources, or the last value found otherwise.
+     */
+    String lookup(Source[] sources, String envKey, String propertyKey, Project project) {
+        String value = null
+        for (Source source : sources) {
+            switch (source) {
+                case Source.ENV:
+                    value = getenv(envKey)
+                    break
+                case Source.SYS:
+                    value = System.getProperty(propertyKey)
+                    break
+                case Source.PROP:
+                    value = (project.findProperty(propertyKey) as String)
+                    break
+            }
+            if (!isBlank(value)) return value
+        }
+        value
+    }
+
+    private String getenv(String name) {
+        // environment variable names are case insensitive on Windows, System.getenv(name) is as well
+        String key = CASE_INSENSITIVE_ENV ? name.toUpperCase(Locale.ROOT) : name
+        String value = env.computeIfAbsent(key, { String k ->
+            String v = System.getenv(name)
+            v != null ? v : MISSING
+        })
+        value.is(MISSING) ? null : value
+    }
+
+    @Canonical
+    @CompileStatic
+    static class KeyId {
+        final String envKey
+        final String propertyKey
+        final String ownerPath
+        final String projectName
+    }
+
+    @CompileStatic
+    static class Keys {
+        final String ownerEnv
+        final String ownerProperty
+        final String projectEnv
+        final String projectProperty
+        final String env
+        final String property
+
+        Keys(KeyId id) {
+            if (isNotBlank(id.ownerPath)) {
+                ownerEnv = normalizePath(id.ownerPath, '_').toUpperCase() + id.envKey
+                ownerProperty = normalizePath(id.ownerPath, '.') + id.propertyKey
+            } else {
+                ownerEnv = null
+                ownerProperty = null
+            }
+            String projectName = id.projectName.replace(' ', '_').replace('-', '_')
+            projectEnv = projectName.toUpperCase() + '_' + id.envKey
+            projectProperty = projectName + '.' + id.propertyKey
+            env = id.envKey
+            property = id.propertyKey
+        }
+
+        private static String normalizePath(String path, String delimiter) {
+            if (':' == path || '' == path) {
+                return ''
+            }
+            return path[1..-1].replace(':', delimiter).replace(' ', '_') + delimiter
+        }
+    }
+}
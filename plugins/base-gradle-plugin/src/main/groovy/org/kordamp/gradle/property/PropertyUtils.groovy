@@ -3528,29 +3528,24 @@ final class PropertyUtils {
     }
 
     private static Priority resolvePropertyPriority() {
-        String value = System.getProperty(KEY_PROPERTY_PRIORITY)
-        try {
-            return Priority.valueOf(value.toUpperCase())
-        } catch (Exception ignored) {
-            return Priority.PROPERTY
-        }
+        parseSetting(System.getProperty(KEY_PROPERTY_PRIORITY), Priority, Priority.PROPERTY)
     }
 
     private static Order resolvePropertyOrder() {
-        String value = System.getProperty(KEY_PROPERTY_ORDER)
-        try {
-            return Order.valueOf(value.toUpperCase())
-        } catch (Exception ignored) {
-            return Order.ENV_SYS_PROP
-        }
+        parseSetting(System.getProperty(KEY_PROPERTY_ORDER), Order, Order.ENV_SYS_PROP)
     }
 
     private static Path resolvePropertyPath() {
-        String value = System.getProperty(KEY_PROPERTY_PATH)
+        parseSetting(System.getProperty(KEY_PROPERTY_PATH), Path, Path.GLOBAL_PROJECT_OWNER)
+    }
+
+    private static <E extends Enum<E>> E parseSetting(String value, Class<E> type, E defaultValue) {
+        // these settings are read on every resolution, avoid an exception when they are not set
+        if (value == null) return defaultValue
         try {
-            return Path.valueOf(value.toUpperCase())
+            return Enum.valueOf(type, value.toUpperCase())
         } catch (Exception ignored) {
-            return Path.GLOBAL_PROJECT_OWNER
+            return defaultValue
         }
     }
 
@@ -3603,149 +3598,25 @@ final class PropertyUtils {
                                        Object owner) {
         order = order ?: resolvePropertyOrder()
         path = path ?: resolvePropertyPath()
-        String _path = resolvePath(owner)
-        String projectName = project.name.replace(' ', '_').replace('-', '_')
 
-        switch (order) {
-            case Order.ENV_SYS_PROP: ESP:
-            {
-                String value = null
-                if (path.owner && isNotBlank(_path)) {
-                    value = System.getenv(normalizePath(_path, '_').toUpperCase() + envKey)
-                    if (isBlank(value)) value = System.getProperty(normalizePath(_path, '.') + propertyKey)
-                    if (isBlank(value)) value = (project.findProperty(normalizePath(_path, '.') + propertyKey) as String)
-                }
-                if (path.project) {
-                    if (isBlank(value)) value = System.getenv(projectName.toUpperCase() + '_' + envKey)
-                    if (isBlank(value)) value = System.getProperty(projectName + '.' + propertyKey)
-                    if (isBlank(value)) value = (project.findProperty(projectName + '.' + propertyKey) as String)
-                }
-                if (path.global) {
-                    if (isBlank(value)) value = System.getenv(envKey)
-                    if (isBlank(value)) value = System.getProperty(propertyKey)
-                    if (isBlank(value)) value = (project.findProperty(propertyKey) as String)
-                }
-                if (isBlank(value) && projectAccess) {
-                    value = (project.findProperty(propertyKey) as String)
-                }
-                return value
-            }
-            case Order.ENV_PROP_SYS: EPS:
-            {
-                String value = null
-                if (path.owner && isNotBlank(_path)) {
-                    value = System.getenv(normalizePath(_path, '_').toUpperCase() + envKey)
-                    if (isBlank(value)) value = (project.findProperty(normalizePath(_path, '.') + propertyKey) as String)
-                    if (isBlank(value)) value = System.getProperty(normalizePath(_path, '.') + propertyKey)
-                }
-                if (path.project) {
-                    if (isBlank(value)) value = System.getenv(projectName.toUpperCase() + '_' + envKey)
-                    if (isBlank(value)) value = (project.findProperty(projectName + '.' + propertyKey) as String)
-                    if (isBlank(value)) value = System.getProperty(projectName + '.' + propertyKey)
-                }
-                if (path.global) {
-                    if (isBlank(value)) value = System.getenv(envKey)
-                    if (isBlank(value)) value = (project.findProperty(propertyKey) as String)
-                    if (isBlank(value)) value = System.getProperty(propertyKey)
-                }
-                if (isBlank(value) && projectAccess) {
-                    value = (project.findProperty(propertyKey) as String)
-                }
-                return value
-            }
-            case Order.SYS_ENV_PROP: SEP:
-            {
-                String value = null
-                if (path.owner && isNotBlank(_path)) {
-                    value = System.getProperty(normalizePath(_path, '.') + propertyKey)
-                    if (isBlank(value)) value = System.getenv(normalizePath(_path, '_').toUpperCase() + envKey)
-                    if (isBlank(value)) value = (project.findProperty(normalizePath(_path, '.') + propertyKey) as String)
-                }
-                if (path.project) {
-                    if (isBlank(value)) value = System.getProperty(projectName + '.' + propertyKey)
-                    if (isBlank(value)) value = System.getenv(projectName.toUpperCase() + '_' + envKey)
-                    if (isBlank(value)) value = (project.findProperty(projectName + '.' + propertyKey) as String)
-                }
-                if (path.global) {
-                    if (isBlank(value)) value = System.getProperty(propertyKey)
-                    if (isBlank(value)) value = System.getenv(envKey)
-                    if (isBlank(value)) value = (project.findProperty(propertyKey) as String)
-                }
-                if (isBlank(value) && projectAccess) {
-                    value = (project.findProperty(propertyKey) as String)
-                }
-                return value
-            }
-            case Order.SYS_PROP_ENV: SPE:
-            {
-                String value = null
-                if (path.owner && isNotBlank(_path)) {
-                    value = System.getProperty(normalizePath(_path, '.') + propertyKey)
-                    if (isBlank(value)) value = (project.findProperty(normalizePath(_path, '.') + propertyKey) as String)
-                    if (isBlank(value)) value = System.getenv(normalizePath(_path, '_').toUpperCase() + envKey)
-                }
-                if (path.project) {
-                    if (isBlank(value)) value = System.getProperty(projectName + '.' + propertyKey)
-                    if (isBlank(value)) value = (project.findProperty(projectName + '.' + propertyKey) as String)
-                    if (isBlank(value)) value = System.getenv(projectName.toUpperCase() + '_' + envKey)
-                }
-                if (path.global) {
-                    if (isBlank(value)) value = System.getProperty(propertyKey)
-                    if (isBlank(value)) value = (project.findProperty(propertyKey) as String)
-                    if (isBlank(value)) value = System.getenv(envKey)
-                }
-                if (isBlank(value) && projectAccess) {
-                    value = (project.findProperty(propertyKey) as String)
-                }
-                return value
-            }
-            case Order.PROP_ENV_SYS: PES:
-            {
-                String value = null
-                if (path.owner && isNotBlank(_path)) {
-                    value = (project.findProperty(normalizePath(_path, '.') + propertyKey) as String)
-                    if (isBlank(value)) value = System.getenv(normalizePath(_path, '_').toUpperCase() + envKey)
-                    if (isBlank(value)) value = System.getProperty(normalizePath(_path, '.') + propertyKey)
-                }
-                if (path.project) {
-                    if (isBlank(value)) value = (project.findProperty(projectName + '.' + propertyKey) as String)
-                    if (isBlank(value)) value = System.getenv(projectName.toUpperCase() + '_' + envKey)
-                    if (isBlank(value)) value = System.getProperty(projectName + '.' + propertyKey)
-                }
-                if (path.global) {
-                    if (isBlank(value)) value = (project.findProperty(propertyKey) as String)
-                    if (isBlank(value)) value = System.getenv(envKey)
-                    if (isBlank(value)) value = System.getProperty(propertyKey)
-                }
-                if (isBlank(value) && projectAccess) {
-                    value = (project.findProperty(propertyKey) as String)
-                }
-                return value
-            }
-            case Order.PROP_SYS_ENV: PSE:
-            {
-                String value = null
-                if (path.owner && isNotBlank(_path)) {
-                    value = (project.findProperty(normalizePath(_path, '.') + propertyKey) as String)
-                    if (isBlank(value)) value = System.getProperty(normalizePath(_path, '.') + propertyKey)
-                    if (isBlank(value)) value = System.getenv(normalizePath(_path, '_').toUpperCase() + envKey)
-                }
-                if (path.project) {
-                    if (isBlank(value)) value = (project.findProperty(projectName + '.' + propertyKey) as String)
-                    if (isBlank(value)) value = System.getProperty(projectName + '.' + propertyKey)
-                    if (isBlank(value)) value = System.getenv(projectName.toUpperCase() + '_' + envKey)
-                }
-                if (path.global) {
-                    if (isBlank(value)) value = (project.findProperty(propertyKey) as String)
-                    if (isBlank(value)) value = System.getProperty(propertyKey)
-                    if (isBlank(value)) value = System.getenv(envKey)
-                }
-                if (isBlank(value) && projectAccess) {
-                    value = (project.findProperty(propertyKey) as String)
-                }
-                return value
-            }
+        PropertyIndex index = PropertyIndex.of(project)
+        PropertyIndex.Keys keys = index.keys(envKey, propertyKey, resolvePath(owner), project.name)
+        PropertyIndex.Source[] sources = PropertyIndex.sources(order)
+
+        String value = null
+        if (path.owner && keys.ownerProperty != null) {
+            value = index.lookup(sources, keys.ownerEnv, keys.ownerProperty, project)
+        }
+        if (path.project) {
+            if (isBlank(value)) value = index.lookup(sources, keys.projectEnv, keys.projectProperty, project)
+        }
+        if (path.global) {
+            if (isBlank(value)) value = index.lookup(sources, keys.env, keys.property, project)
+        }
+        if (isBlank(value) && projectAccess) {
+            value = (project.findProperty(propertyKey) as String)
         }
+        value
     }
 
     @CompileDynamic
@@ -3760,13 +3631,6 @@ final class PropertyUtils {
         return object ? object.class.name.replaceAll('.', ':') : ''
     }
 
-    private static String normalizePath(String path, String delimiter) {
-        if (':' == path || '' == path) {
-            return ''
-        }
-        return path[1..-1].replace(':', delimiter).replace(' ', '_') + delimiter
-    }
-
     private static String toEnv(String key) {
         key.toUpperCase().replace('.', '_')
     }
@@ -31,16 +31,20 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 import static org.kordamp.gradle.util.ObjectUtils.isSetterMethod;
@@ -66,6 +70,8 @@ public class AnnotationUtils {
     private static final String ERROR_FIELD_NULL = "Argument 'field' must not be null";
     private static final String ERROR_SETTER_METHOD_NULL = "Argument 'setterMethod' must not be null";
     private static final String VALUE = "value";
+    private static final int MAX_SORT_CACHE_SIZE = 256;
+    private static final Map<SortKey, SortedOrder> SORT_CACHE = new ConcurrentHashMap<>();
 
     private AnnotationUtils() {
         // prevent instantiation
@@ -441,106 +447,192 @@ public class AnnotationUtils {
         requireNonNull(type, "Argument 'type' must not be null");
         requireNonNull(order, "Argument 'order' must not be null");
 
-        Map<String, T> instancesByName = mapInstancesByName(context, instances, suffix, type);
+        // names, evictions and dependencies are all derived from the instance classes,
+        // hence the same sequence of classes always results in the same ordering
+        List<T> candidates = new ArrayList<>(instances);
+        List<Class<?>> classes = new ArrayList<>(candidates.size());
+        for (T instance : candidates) {
+            classes.add(instance.getClass());
+        }
+        SortKey key = new SortKey(classes, suffix, type, order);
 
-        Map<String, T> map = new LinkedHashMap<>(instancesByName);
+        SortedOrder sortedOrder = SORT_CACHE.get(key);
+        if (sortedOrder != null) {
+            LOG.debug("[" + context + "] Cached {} order is {}", type, sortedOrder.names);
+        } else {
+            sortedOrder = computeOrder(context, candidates, suffix, type, order);
+            if (SORT_CACHE.size() >= MAX_SORT_CACHE_SIZE) {
+                SORT_CACHE.clear();
+            }
+            SORT_CACHE.put(key, sortedOrder);
+        }
+
+        Map<String, T> instancesByName = new LinkedHashMap<>();
+        for (int i = 0; i < sortedOrder.indices.length; i++) {
+            instancesByName.put(sortedOrder.names.get(i), candidates.get(sortedOrder.indices[i]));
+        }
+        return instancesByName;
+    }
+
+    /**
+     * Discards all orderings computed by {@code sortByDependencies}.
+     *
+     * @since 0.55.0
+     */
+    public static void clearSortCache() {
+        SORT_CACHE.clear();
+    }
+
+    private static <T> SortedOrder computeOrder(@Nonnull String context, @Nonnull List<T> instances, @Nonnull String suffix, @Nonnull String type, @Nonnull List<String> order) {
+        Map<String, T> instancesByName = mapInstancesByName(context, instances, suffix, type);
 
+        List<String> names = new ArrayList<>(instancesByName.keySet());
         if (!order.isEmpty()) {
-            Map<String, T> tmp1 = new LinkedHashMap<>(instancesByName);
-            Map<String, T> tmp2 = new LinkedHashMap<>();
-            //noinspection ConstantConditions
+            List<String> tmp = new ArrayList<>();
             for (String name : order) {
-                if (tmp1.containsKey(name)) {
-                    tmp2.put(name, tmp1.remove(name));
+                if (instancesByName.containsKey(name) && !tmp.contains(name)) {
+                    tmp.add(name);
                 }
             }
-            tmp2.putAll(tmp1);
-            map.clear();
-            map.putAll(tmp2);
+            for (String name : names) {
+                if (!tmp.contains(name)) {
+                    tmp.add(name);
+                }
+            }
+            names = tmp;
         }
 
-        List<T> sorted = new ArrayList<>();
-        Set<String> instanceDeps = new LinkedHashSet<>();
-
-        while (!map.isEmpty()) {
-            int processed = 0;
+        int size = names.size();
+        Map<String, Integer> indexByName = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            indexByName.put(names.get(i), i);
+        }
 
-            LOG.info("[" + context + "] Current {} order is {}", type, instancesByName.keySet());
+        // Kahn's algorithm over @DependsOn edges. A dependency on a name that is not present
+        // can never be satisfied, such instances are treated like members of a cycle
+        int[] pending = new int[size];
+        List<List<Integer>> dependents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            String[] dependsOn = getDependsOn(instancesByName.get(names.get(i)));
+            for (String dep : new LinkedHashSet<>(Arrays.asList(dependsOn))) {
+                Integer d = indexByName.get(dep);
+                if (d == null) {
+                    LOG.debug("[" + context + "]   {} '{}' depends on missing {} '{}'", type, names.get(i), type, dep);
+                    pending[i] = -1;
+                } else if (pending[i] >= 0) {
+                    pending[i]++;
+                    dependents.get(d).add(i);
+                }
+            }
+        }
 
-            for (Iterator<Map.Entry<String, T>> iter = map.entrySet().iterator(); iter.hasNext(); ) {
-                Map.Entry<String, T> entry = iter.next();
-                String instanceName = entry.getKey();
-                String[] dependsOn = getDependsOn(entry.getValue());
+        // the position of an instance is (pass, index), where pass is the number of times
+        // a dependency appears after its dependent, this is the order obtained by repeatedly
+        // scanning the instances in order and adding those whose dependencies were added
+        int[] pass = new int[size];
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            if (pending[i] == 0) ready.add(i);
+        }
+        List<Integer> resolved = new ArrayList<>(size);
+        while (!ready.isEmpty()) {
+            int d = ready.poll();
+            resolved.add(d);
+            for (int i : dependents.get(d)) {
+                pass[i] = Math.max(pass[i], pass[d] + (d > i ? 1 : 0));
+                if (--pending[i] == 0) ready.add(i);
+            }
+        }
+        resolved.sort((a, b) -> pass[a] != pass[b] ? Integer.compare(pass[a], pass[b]) : Integer.compare(a, b));
 
-                LOG.debug("[" + context + "] Processing {} '{}'", type, instanceName);
-                LOG.debug("[" + context + "]   depends on '{}'", Arrays.toString(dependsOn));
+        if (resolved.size() < size) {
+            // cyclical or missing dependencies, load the rest in the order they appeared originally
+            boolean[] added = new boolean[size];
+            for (int i : resolved) {
+                added[i] = true;
+            }
+            for (int i = 0; i < size; i++) {
+                if (!added[i]) {
+                    LOG.debug("[" + context + "]   unresolved {} dependencies for '{}' {}, adding at end", type, names.get(i),
+                        Arrays.toString(getDependsOn(instancesByName.get(names.get(i)))));
+                    resolved.add(i);
+                }
+            }
+        }
 
-                if (dependsOn.length != 0) {
-                    LOG.debug("[" + context + "]   checking {} '{}' dependencies ({})", type, instanceName, dependsOn.length);
+        // map sorted names back to the original instances, keys are computed without evictions
+        Map<T, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < instances.size(); i++) {
+            positions.putIfAbsent(instances.get(i), i);
+        }
+        List<String> sortedNames = new ArrayList<>(size);
+        Set<String> seen = new LinkedHashSet<>();
+        List<Integer> indices = new ArrayList<>(size);
+        for (int i : resolved) {
+            T instance = instancesByName.get(names.get(i));
+            String name = getLogicalPropertyName(nameFor(instance), suffix);
+            if (seen.add(name)) {
+                sortedNames.add(name);
+                indices.add(positions.get(instance));
+            } else {
+                // a later instance with the same name replaces the earlier one in place
+                indices.set(sortedNames.indexOf(name), positions.get(instance));
+            }
+        }
 
-                    boolean failedDep = false;
-                    for (String dep : dependsOn) {
-                        LOG.debug("[" + context + "]   checking {} '{}' dependency {}", type, instanceName, dep);
-                        if (!instanceDeps.contains(dep)) {
-                            // dep not in the list yet, we need to skip adding this to the list for now
-                            LOG.debug("[" + context + "]   skipped {} '{}', since dependency '{}' not yet added", type, instanceName, dep);
-                            failedDep = true;
-                            break;
-                        } else {
-                            LOG.debug("[" + context + "]   {} '{}' dependency '{}' already added", type, instanceName, dep);
-                        }
-                    }
+        LOG.info("[" + context + "] Computed {} order is {}", type, sortedNames);
 
-                    if (failedDep) {
-                        // move on to next dependency
-                        continue;
-                    }
-                }
+        int[] result = new int[indices.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = indices.get(i);
+        }
+        return new SortedOrder(Collections.unmodifiableList(sortedNames), result);
+    }
+
+    private static final class SortKey {
+        private final List<Class<?>> classes;
+        private final String suffix;
+        private final String type;
+        private final List<String> order;
+        private final int hash;
+
+        private SortKey(List<Class<?>> classes, String suffix, String type, List<String> order) {
+            this.classes = classes;
+            this.suffix = suffix;
+            this.type = type;
+            this.order = new ArrayList<>(order);
+            this.hash = Objects.hash(classes, suffix, type, this.order);
+        }
 
-                LOG.debug("[" + context + "]   adding {} '{}', since all dependencies have been added", type, instanceName);
-                sorted.add(entry.getValue());
-                instanceDeps.add(instanceName);
-                iter.remove();
-                processed++;
-            }
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SortKey)) return false;
+            SortKey other = (SortKey) o;
+            return hash == other.hash &&
+                classes.equals(other.classes) &&
+                suffix.equals(other.suffix) &&
+                type.equals(other.type) &&
+                order.equals(other.order);
+        }
 
-            if (processed == 0) {
-                // we have a cyclical dependency, warn the user and load in the order they appeared originally
-                LOG.debug("[" + context + "]   unresolved {} dependencies detected", type);
-                for (Map.Entry<String, T> entry : map.entrySet()) {
-                    String instanceName = entry.getKey();
-                    String[] dependsOn = getDependsOn(entry.getValue());
-
-                    // display this as a cyclical dep
-                    LOG.debug("[" + context + "]   {} {} ", type, instanceName);
-                    if (dependsOn.length != 0) {
-                        for (String dep : dependsOn) {
-                            LOG.debug("    depends on {}", dep);
-                        }
-                    } else {
-                        // we should only have items left in the list with deps, so this should never happen
-                        // but a wise man once said...check for true, false and otherwise...just in case
-                        LOG.debug("[" + context + "]   problem while resolving dependencies.");
-                        LOG.debug("[" + context + "]   unable to resolve dependency hierarchy.");
-                    }
-                    if (!instanceDeps.contains(instanceName)) {
-                        LOG.debug("[" + context + "]   adding {} '{}' at end", type, instanceName);
-                        sorted.add(entry.getValue());
-                        instanceDeps.add(instanceName);
-                    }
-                }
-                break;
-                // if we have processed all the instances, we are done
-            } else if (sorted.size() == instancesByName.size()) {
-                LOG.info("[" + context + "] {} dependency ordering complete", type);
-                break;
-            }
+        @Override
+        public int hashCode() {
+            return hash;
         }
+    }
 
-        instancesByName = mapInstancesByName(sorted, suffix);
-        LOG.info("[" + context + "] Computed {} order is {}", type, instancesByName.keySet());
+    private static final class SortedOrder {
+        private final List<String> names;
+        private final int[] indices;
 
-        return instancesByName;
+        private SortedOrder(List<String> names, int[] indices) {
+            this.names = names;
+            this.indices = indices;
+        }
     }
 
     @Nonnull
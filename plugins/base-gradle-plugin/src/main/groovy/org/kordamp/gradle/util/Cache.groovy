@@ -19,19 +19,53 @@ package org.kordamp.gradle.util
 
 import groovy.transform.Canonical
 import groovy.transform.CompileStatic
+import org.gradle.api.Action
+import org.gradle.api.Project
 import org.gradle.api.invocation.Gradle
+import org.gradle.api.services.BuildServiceSpec
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
 
+import java.nio.channels.FileChannel
+import java.nio.channels.FileLock
+import java.nio.channels.OverlappingFileLockException
+import java.nio.file.AtomicMoveNotSupportedException
+import java.nio.file.DirectoryStream
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.nio.file.StandardOpenOption
+import java.nio.file.attribute.BasicFileAttributeView
+import java.nio.file.attribute.BasicFileAttributes
+import java.nio.file.attribute.FileTime
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.locks.ReentrantLock
 import java.util.function.Consumer
+import java.util.function.Function
 
 /**
  * Provides a local file cache.
+ * Entries are also kept in memory for the duration of a build, see {@code CacheService}.
+ * The size of the memory tier may be set with the {@code org.kordamp.gradle.cache.memory.size}
+ * System property, defaults to {@code 32m}. A value of {@code 0} disables the memory tier.
  *
  * @author Andres Almiray
  * @since 0.41.0
  */
 @CompileStatic
 final class Cache {
+    private static final Logger LOG = LoggerFactory.getLogger(Project)
     private static final String KEY_CACHE_LOG_LEVEL = 'org.kordamp.gradle.cache.log.level'
+    private static final String KEY_CACHE_MEMORY_SIZE = 'org.kordamp.gradle.cache.memory.size'
+    private static final String CACHE_SERVICE_NAME = 'kordamp-file-cache'
+    private static final long DEFAULT_MEMORY_SIZE = 32L * 1024L * 1024L
+    private static final int MAX_KEYS = 1024
+    private static final String EVICTION_MARKER = '.eviction'
+    private static final long ACCESS_GRANULARITY = TimeUnit.HOURS.toMillis(1L)
+    private static final String LOCK_PREFIX = '.lock-'
+    private static final String TMP_SUFFIX = '.tmp'
+    private static final int LOCK_STRIPES = 16
 
     @Canonical
     static class Key {
@@ -47,6 +81,23 @@ final class Cache {
     }
 
     private static final Cache INSTANCE = new Cache()
+    private static final Map<String, Key> KEYS = new LinkedHashMap<String, Key>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Key> eldest) {
+            size() > MAX_KEYS
+        }
+    }
+
+    private final AtomicBoolean evictionRunning = new AtomicBoolean(false)
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES]
+    private final Map<Gradle, CacheService> services = new WeakHashMap<>()
+    private volatile long lastEviction = Long.MIN_VALUE
+
+    private Cache() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock()
+        }
+    }
 
     static Cache getInstance() {
         INSTANCE
@@ -60,7 +111,17 @@ final class Cache {
         if (!input) {
             throw new IllegalArgumentException('Input must not be null')
         }
-        new Key(input)
+
+        // computing the checksum is not free, reuse keys requested by other projects
+        String value = String.valueOf(input)
+        synchronized (KEYS) {
+            Key key = KEYS.get(value)
+            if (key == null) {
+                key = new Key(value)
+                KEYS.put(value, key)
+            }
+            return key
+        }
     }
 
     /**
@@ -107,7 +168,14 @@ final class Cache {
      * @param key the key that identifies the cache entry
      */
     void delete(Gradle gradle, Key key) {
-        resolveCacheFile(gradle, key).delete()
+        ReentrantLock lock = locks[stripe(key)]
+        lock.lock()
+        try {
+            resolveCacheFile(gradle, key).delete()
+            memory(gradle)?.invalidate(key)
+        } finally {
+            lock.unlock()
+        }
     }
 
     /**
@@ -118,14 +186,14 @@ final class Cache {
      * @return {@code true} if the read was successful, {@code false} otherwise.
      */
     boolean get(Gradle gradle, Key key, Consumer<? super InputStream> consumer) {
-        File cacheFile = resolveCacheFile(gradle, key)
-        if (cacheFile.exists()) {
-            try {
-                cacheFile.withInputStream { consumer.accept(it) }
-                return true
-            } catch (IOException e) {
-                log(gradle, key, e)
-            }
+        byte[] bytes = readBytes(gradle, key, memory(gradle))
+        if (bytes == null) return false
+
+        try {
+            consumer.accept(new ByteArrayInputStream(bytes))
+            return true
+        } catch (IOException e) {
+            log(gradle, key, e)
         }
         false
     }
@@ -138,16 +206,107 @@ final class Cache {
      * @return {@code true} if the read was successful, {@code false} otherwise.
      */
     boolean read(Gradle gradle, Key key, Consumer<? super BufferedReader> consumer) {
+        byte[] bytes = readBytes(gradle, key, memory(gradle))
+        if (bytes == null) return false
+
+        try {
+            consumer.accept(new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes))))
+            return true
+        } catch (IOException e) {
+            log(gradle, key, e)
+        }
+        false
+    }
+
+    /**
+     * Reads and decodes an entry from the cache. The decoded value is kept in memory
+     * for the remainder of the build thus subsequent calls skip both I/O and decoding.
+     * Callers must not mutate the decoded value.
+     *
+     * @param gradle the {@code Gradle} instance that owns the cache
+     * @param key the key that identifies the cache entry
+     * @param decoder the function that decodes the entry
+     * @return the decoded value or {@code null} if the entry could not be read.
+     * @since 0.55.0
+     */
+    public <T> T decode(Gradle gradle, Key key, Function<? super InputStream, ? extends T> decoder) {
+        CacheService memory = memory(gradle)
+        Object decoded = memory?.getDecoded(key)
+        if (decoded != null) return (T) decoded
+
+        ReentrantLock lock = locks[stripe(key)]
+        lock.lock()
+        try {
+            byte[] bytes = readBytes(gradle, key, memory)
+            if (bytes == null) return null
+
+            T value = decoder.apply(new ByteArrayInputStream(bytes))
+            if (value != null) memory?.putDecoded(key, value, bytes.length)
+            return value
+        } catch (IOException e) {
+            log(gradle, key, e)
+        } finally {
+            lock.unlock()
+        }
+        null
+    }
+
+    /**
+     * Decodes an entry directly from its backing file, for example by memory mapping it.
+     * The decoded value is kept in memory for the remainder of the build.
+     * Callers must not mutate the decoded value.
+     *
+     * @param gradle the {@code Gradle} instance that owns the cache
+     * @param key the key that identifies the cache entry
+     * @param decoder the function that decodes the entry. May return {@code null} if the contents are not valid.
+     * @return the decoded value or {@code null} if the entry could not be read.
+     * @since 0.55.0
+     */
+    public <T> T map(Gradle gradle, Key key, Function<? super FileChannel, ? extends T> decoder) {
+        CacheService memory = memory(gradle)
+        Object decoded = memory?.getDecoded(key)
+        if (decoded != null) return (T) decoded
+
         File cacheFile = resolveCacheFile(gradle, key)
-        if (cacheFile.exists()) {
+        ReentrantLock lock = locks[stripe(key)]
+        lock.lock()
+        try {
+            if (!cacheFile.exists()) {
+                memory?.recordMiss()
+                return null
+            }
+
+            FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)
             try {
-                cacheFile.withReader { consumer.accept(it) }
-                return true
-            } catch (IOException e) {
-                log(gradle, key, e)
+                T value = decoder.apply(channel)
+                if (value != null) {
+                    markAccessed(cacheFile)
+                    memory?.recordDiskHit()
+                    memory?.putDecoded(key, value, channel.size())
+                } else {
+                    memory?.recordMiss()
+                }
+                return value
+            } finally {
+                channel.close()
             }
+        } catch (IOException e) {
+            memory?.recordMiss()
+            log(gradle, key, e)
+        } finally {
+            lock.unlock()
         }
-        false
+        null
+    }
+
+    /**
+     * Returns hit/miss counters for the current build.
+     * @param gradle the {@code Gradle} instance that owns the cache
+     * @since 0.55.0
+     */
+    CacheService.Stats stats(Gradle gradle) {
+        CacheService memory = memory(gradle)
+        memory ? memory.stats : new CacheService.Stats(0L, 0L, 0L, 0L)
     }
 
     /**
@@ -158,15 +317,7 @@ final class Cache {
      * @return {@code true} if the write was successful, {@code false} otherwise.
      */
     boolean put(Gradle gradle, Key key, Consumer<? super OutputStream> consumer) {
-        File cacheFile = resolveCacheFile(gradle, key)
-        cacheFile.parentFile.mkdirs()
-        try {
-            cacheFile.withOutputStream { consumer.accept(it) }
-            return true
-        } catch (IOException e) {
-            log(gradle, key, e)
-        }
-        false
+        doWrite(gradle, key, consumer)
     }
 
     /**
@@ -177,15 +328,14 @@ final class Cache {
      * @return {@code true} if the write was successful, {@code false} otherwise.
      */
     boolean write(Gradle gradle, Key key, Consumer<? super BufferedWriter> consumer) {
-        File cacheFile = resolveCacheFile(gradle, key)
-        cacheFile.parentFile.mkdirs()
-        try {
-            cacheFile.withWriter { consumer.accept(it) }
-            return true
-        } catch (IOException e) {
-            log(gradle, key, e)
-        }
-        false
+        doWrite(gradle, key, new Consumer<OutputStream>() {
+            @Override
+            void accept(OutputStream out) {
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out))
+                consumer.accept(writer)
+                writer.flush()
+            }
+        })
     }
 
     /**
@@ -193,19 +343,281 @@ final class Cache {
      * @param gradle the {@code Gradle} instance that owns the cache
      */
     void clear(Gradle gradle) {
+        memory(gradle)?.invalidateAll()
+        resolveCacheDir(gradle).deleteDir()
+    }
+
+    /**
+     * Evicts entries that exceed the limits set by {@code CacheEvictionPolicy}.
+     * Entries not used within the max age are deleted first, then the least recently
+     * used entries are deleted until the cache fits within the max size.
+     *
+     * @param gradle the {@code Gradle} instance that owns the cache
+     * @return the number of evicted entries.
+     * @since 0.55.0
+     */
+    int evict(Gradle gradle) {
+        CacheEvictionPolicy policy = CacheEvictionPolicy.resolve()
+        policy.bounded ? doEvict(resolveCacheDir(gradle), policy) : 0
+    }
+
+    private File resolveCacheDir(Gradle gradle) {
         new File([gradle.gradleUserHomeDir.absolutePath,
                   'caches',
                   'kordamp',
                   'file-cache'].join(File.separator))
-            .deleteDir()
     }
 
     private File resolveCacheFile(Gradle gradle, Key key) {
-        new File([gradle.gradleUserHomeDir.absolutePath,
-                  'caches',
-                  'kordamp',
-                  'file-cache',
-                  key.value].join(File.separator))
+        new File(resolveCacheDir(gradle), key.value)
+    }
+
+    private boolean doWrite(Gradle gradle, Key key, Consumer<? super OutputStream> consumer) {
+        File cacheFile = resolveCacheFile(gradle, key)
+        File cacheDir = cacheFile.parentFile
+        cacheDir.mkdirs()
+
+        // entries are written to a temporary file then renamed, readers never see partial contents.
+        // Writers of keys sharing a stripe are serialized within this JVM and across processes
+        int stripe = stripe(key)
+        ReentrantLock lock = locks[stripe]
+        lock.lock()
+        try {
+            FileChannel channel = FileChannel.open(new File(cacheDir, LOCK_PREFIX + stripe).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)
+            try {
+                FileLock fileLock = acquireFileLock(channel)
+                try {
+                    Path tmp = Files.createTempFile(cacheDir.toPath(), '.' + key.value, TMP_SUFFIX)
+                    try {
+                        tmp.toFile().withOutputStream { consumer.accept(it) }
+                        moveAtomically(tmp, cacheFile.toPath())
+                        // readers load from disk while holding the stripe lock, none can restore stale contents
+                        memory(gradle)?.invalidate(key)
+                    } finally {
+                        Files.deleteIfExists(tmp)
+                    }
+                } finally {
+                    fileLock?.release()
+                }
+            } finally {
+                channel.close()
+            }
+        } catch (IOException e) {
+            log(gradle, key, e)
+            return false
+        } finally {
+            lock.unlock()
+        }
+
+        scheduleEviction(gradle)
+        true
+    }
+
+    private static int stripe(Key key) {
+        (key.value.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES
+    }
+
+    private FileLock acquireFileLock(FileChannel channel) {
+        try {
+            return channel.lock()
+        } catch (IOException e) {
+            // some file systems do not support locking, rely on atomic renames alone
+            LOG.debug('Cache lock not available', e)
+            return null
+        } catch (OverlappingFileLockException e) {
+            // the lock is held within this JVM by a Cache loaded by another classloader
+            LOG.debug('Cache lock already held by this JVM', e)
+            return null
+        }
+    }
+
+    private void moveAtomically(Path source, Path target) {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING)
+        } catch (AtomicMoveNotSupportedException ignored) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING)
+        }
+    }
+
+    private byte[] readBytes(Gradle gradle, Key key, CacheService memory) {
+        byte[] bytes = memory?.getBytes(key)
+        if (bytes != null) return bytes
+
+        // disk reads share the stripe lock with writers, contents put in memory are never stale
+        File cacheFile = resolveCacheFile(gradle, key)
+        ReentrantLock lock = locks[stripe(key)]
+        lock.lock()
+        try {
+            if (!cacheFile.exists()) {
+                memory?.recordMiss()
+                return null
+            }
+
+            bytes = cacheFile.bytes
+            markAccessed(cacheFile)
+            memory?.recordDiskHit()
+            memory?.putBytes(key, bytes)
+            return bytes
+        } catch (IOException e) {
+            memory?.recordMiss()
+            log(gradle, key, e)
+        } finally {
+            lock.unlock()
+        }
+        null
+    }
+
+    private CacheService memory(Gradle gradle) {
+        // resolved once per build, a null value records that the memory tier is not available
+        synchronized (services) {
+            if (services.containsKey(gradle)) return services.get(gradle)
+            CacheService service = resolveMemory(gradle)
+            services.put(gradle, service)
+            return service
+        }
+    }
+
+    private CacheService resolveMemory(Gradle gradle) {
+        long maxWeight = CacheEvictionPolicy.parseSize(System.getProperty(KEY_CACHE_MEMORY_SIZE), DEFAULT_MEMORY_SIZE)
+        if (maxWeight <= 0L) return null
+
+        try {
+            return gradle.sharedServices.registerIfAbsent(CACHE_SERVICE_NAME, CacheService, new Action<BuildServiceSpec<CacheService.Params>>() {
+                @Override
+                void execute(BuildServiceSpec<CacheService.Params> spec) {
+                    spec.parameters.maxWeight.set(maxWeight)
+                }
+            }).get()
+        } catch (Exception ignored) {
+            // shared services are not available
+            return null
+        }
+    }
+
+    private void markAccessed(File file) {
+        // access times drive LRU eviction, modification times are reserved for lastModified() and touch().
+        // Skip the write when the entry was used recently
+        try {
+            BasicFileAttributeView view = Files.getFileAttributeView(file.toPath(), BasicFileAttributeView)
+            long now = System.currentTimeMillis()
+            if (now - lastUsed(view.readAttributes()) > ACCESS_GRANULARITY) {
+                view.setTimes(null, FileTime.fromMillis(now), null)
+            }
+        } catch (IOException e) {
+            LOG.debug("Cache access time not updated for ${file}".toString(), e)
+        }
+    }
+
+    private static long lastUsed(BasicFileAttributes attributes) {
+        // written entries count as used, access times may also be older when not supported
+        Math.max(attributes.lastAccessTime().toMillis(), attributes.lastModifiedTime().toMillis())
+    }
+
+    private void scheduleEviction(Gradle gradle) {
+        CacheEvictionPolicy policy = CacheEvictionPolicy.resolve()
+        if (!policy.bounded) return
+
+        long now = System.currentTimeMillis()
+        if (lastEviction != Long.MIN_VALUE && now - lastEviction < policy.interval) return
+
+        File cacheDir = resolveCacheDir(gradle)
+        File marker = new File(cacheDir, EVICTION_MARKER)
+        if (marker.exists() && now - marker.lastModified() < policy.interval) {
+            // another build may have swept the cache recently
+            lastEviction = marker.lastModified()
+            return
+        }
+
+        if (!evictionRunning.compareAndSet(false, true)) return
+
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            void run() {
+                try {
+                    marker.text = String.valueOf(now)
+                    doEvict(cacheDir, policy)
+                } catch (Exception e) {
+                    LOG.debug('Cache eviction failed', e)
+                } finally {
+                    lastEviction = System.currentTimeMillis()
+                    evictionRunning.set(false)
+                }
+            }
+        }, 'kordamp-cache-eviction')
+        thread.daemon = true
+        thread.priority = Thread.MIN_PRIORITY
+        thread.start()
+    }
+
+    private int doEvict(File cacheDir, CacheEvictionPolicy policy) {
+        Path dir = cacheDir.toPath()
+        if (!Files.isDirectory(dir)) return 0
+
+        long now = System.currentTimeMillis()
+        long totalSize = 0L
+        int evicted = 0
+        List<Entry> entries = []
+
+        DirectoryStream<Path> stream = Files.newDirectoryStream(dir)
+        try {
+            for (Path path : stream) {
+                String name = path.fileName.toString()
+                if (name.startsWith('.') && !name.endsWith(TMP_SUFFIX)) continue
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes)
+                    if (!attributes.regularFile) continue
+
+                    if (name.endsWith(TMP_SUFFIX)) {
+                        // leftovers from interrupted writes
+                        if (now - attributes.lastModifiedTime().toMillis() > ACCESS_GRANULARITY) Files.deleteIfExists(path)
+                        continue
+                    }
+                    long lastUsed = lastUsed(attributes)
+                    if (policy.maxAge > 0L && now - lastUsed > policy.maxAge) {
+                        if (Files.deleteIfExists(path)) evicted++
+                        continue
+                    }
+
+                    entries << new Entry(path, attributes.size(), lastUsed)
+                    totalSize += attributes.size()
+                } catch (IOException e) {
+                    // entry may have been deleted by a concurrent build
+                    LOG.debug("Cache eviction skipped ${path}".toString(), e)
+                }
+            }
+        } finally {
+            stream.close()
+        }
+
+        if (policy.maxSize > 0L && totalSize > policy.maxSize) {
+            entries.sort(new Comparator<Entry>() {
+                @Override
+                int compare(Entry e1, Entry e2) {
+                    Long.compare(e1.lastUsed, e2.lastUsed)
+                }
+            })
+
+            for (Entry entry : entries) {
+                if (totalSize <= policy.maxSize) break
+                try {
+                    if (Files.deleteIfExists(entry.path)) evicted++
+                    totalSize -= entry.size
+                } catch (IOException e) {
+                    LOG.debug("Cache eviction skipped ${entry.path}".toString(), e)
+                }
+            }
+        }
+
+        LOG.debug('Evicted {} cache entries from {}', evicted, cacheDir)
+        evicted
+    }
+
+    @Canonical
+    private static class Entry {
+        final Path path
+        final long size
+        final long lastUsed
     }
 
     private void log(Gradle gradle, Key key, Throwable t) {
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.util
+
+import groovy.transform.Canonical
+import groovy.transform.CompileStatic
+import groovy.transform.PackageScope
+
+import java.util.concurrent.TimeUnit
+
+import static org.kordamp.gradle.util.StringUtils.isBlank
+
+/**
+ * Defines the limits enforced on the local file cache.
+ * Values are read from the following System properties:
+ *
+ * <ul>
+ *     <li>{@code org.kordamp.gradle.cache.max.size}: max total size of all entries. Accepts
+ *     {@code k}, {@code m}, and {@code g} suffixes. Defaults to {@code 512m}. A value of {@code 0} disables the limit.</li>
+ *     <li>{@code org.kordamp.gradle.cache.max.age}: max age of an entry in days. Defaults to {@code 30}.
+ *     A value of {@code 0} disables the limit.</li>
+ *     <li>{@code org.kordamp.gradle.cache.eviction.interval}: min time between eviction sweeps in hours.
+ *     Defaults to {@code 24}.</li>
+ *     <li>{@code org.kordamp.gradle.cache.eviction}: set to {@code false} to disable eviction.</li>
+ * </ul>
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@Canonical
+@CompileStatic
+class CacheEvictionPolicy {
+    private static final String KEY_CACHE_EVICTION = 'org.kordamp.gradle.cache.eviction'
+    private static final String KEY_CACHE_MAX_SIZE = 'org.kordamp.gradle.cache.max.size'
+    private static final String KEY_CACHE_MAX_AGE = 'org.kordamp.gradle.cache.max.age'
+    private static final String KEY_CACHE_EVICTION_INTERVAL = 'org.kordamp.gradle.cache.eviction.interval'
+
+    private static final long DEFAULT_MAX_SIZE = 512L * 1024L * 1024L
+    private static final long DEFAULT_MAX_AGE_DAYS = 30L
+    private static final long DEFAULT_INTERVAL_HOURS = 24L
+
+    /**
+     * Whether eviction is enabled or not.
+     */
+    final boolean enabled
+
+    /**
+     * Max total size in bytes, {@code 0} means unbounded.
+     */
+    final long maxSize
+
+    /**
+     * Max entry age in milliseconds, {@code 0} means unbounded.
+     */
+    final long maxAge
+
+    /**
+     * Min time between sweeps in milliseconds.
+     */
+    final long interval
+
+    CacheEvictionPolicy(boolean enabled, long maxSize, long maxAge, long interval) {
+        this.enabled = enabled
+        this.maxSize = Math.max(0L, maxSize)
+        this.maxAge = Math.max(0L, maxAge)
+        this.interval = Math.max(0L, interval)
+    }
+
+    boolean isBounded() {
+        enabled && (maxSize > 0L || maxAge > 0L)
+    }
+
+    static CacheEvictionPolicy resolve() {
+        String enabled = System.getProperty(KEY_CACHE_EVICTION)
+        new CacheEvictionPolicy(isBlank(enabled) || Boolean.parseBoolean(enabled),
+            parseSize(System.getProperty(KEY_CACHE_MAX_SIZE), DEFAULT_MAX_SIZE),
+            TimeUnit.DAYS.toMillis(parseLong(System.getProperty(KEY_CACHE_MAX_AGE), DEFAULT_MAX_AGE_DAYS)),
+            TimeUnit.HOURS.toMillis(parseLong(System.getProperty(KEY_CACHE_EVICTION_INTERVAL), DEFAULT_INTERVAL_HOURS)))
+    }
+
+    @PackageScope
+    static long parseSize(String value, long defaultValue) {
+        if (isBlank(value)) return defaultValue
+
+        String str = value.trim().toLowerCase()
+        long multiplier = 1L
+        switch (str[-1]) {
+            case 'k':
+                multiplier = 1024L
+                break
+            case 'm':
+                multiplier = 1024L * 1024L
+                break
+            case 'g':
+                multiplier = 1024L * 1024L * 1024L
+                break
+        }
+        if (multiplier > 1L) str = str[0..-2]
+
+        long size = parseLong(str, -1L)
+        size < 0L ? defaultValue : size * multiplier
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        if (isBlank(value)) return defaultValue
+        try {
+            return Long.parseLong(value.trim())
+        } catch (NumberFormatException ignored) {
+            return defaultValue
+        }
+    }
+}
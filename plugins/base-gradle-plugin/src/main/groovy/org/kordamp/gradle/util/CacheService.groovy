@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.util
+
+import groovy.transform.Canonical
+import groovy.transform.CompileStatic
+import org.gradle.api.Project
+import org.gradle.api.provider.Property
+import org.gradle.api.services.BuildService
+import org.gradle.api.services.BuildServiceParameters
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * In-memory tier that sits in front of the local file cache. Entries live for
+ * the duration of a single build and are shared by all projects.
+ * Eviction is based on the accumulated weight (in bytes) of all entries, least
+ * recently used entries are evicted first.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+abstract class CacheService implements BuildService<Params>, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(Project)
+    private static final String DECODED_SUFFIX = '#decoded'
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true)
+    private long weight
+
+    private final AtomicLong memoryHits = new AtomicLong()
+    private final AtomicLong diskHits = new AtomicLong()
+    private final AtomicLong misses = new AtomicLong()
+    private final AtomicLong evictions = new AtomicLong()
+
+    interface Params extends BuildServiceParameters {
+        Property<Long> getMaxWeight()
+    }
+
+    byte[] getBytes(Cache.Key key) {
+        (byte[]) lookup(key.value)
+    }
+
+    void putBytes(Cache.Key key, byte[] bytes) {
+        store(key.value, bytes, bytes.length)
+    }
+
+    Object getDecoded(Cache.Key key) {
+        lookup(key.value + DECODED_SUFFIX)
+    }
+
+    void putDecoded(Cache.Key key, Object value, long weight) {
+        store(key.value + DECODED_SUFFIX, value, weight)
+    }
+
+    synchronized void invalidate(Cache.Key key) {
+        remove(key.value)
+        remove(key.value + DECODED_SUFFIX)
+    }
+
+    synchronized void invalidateAll() {
+        entries.clear()
+        weight = 0L
+    }
+
+    void recordDiskHit() {
+        diskHits.incrementAndGet()
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet()
+    }
+
+    Stats getStats() {
+        new Stats(memoryHits.get(), diskHits.get(), misses.get(), evictions.get())
+    }
+
+    @Override
+    void close() {
+        LOG.info('Kordamp file cache: {}', stats)
+    }
+
+    private synchronized Object lookup(String key) {
+        Entry entry = entries.get(key)
+        if (entry) {
+            memoryHits.incrementAndGet()
+            return entry.value
+        }
+        null
+    }
+
+    private synchronized void store(String key, Object value, long w) {
+        long maxWeight = parameters.maxWeight.getOrElse(0L)
+        if (w > maxWeight) return
+
+        remove(key)
+        entries.put(key, new Entry(value, w))
+        weight += w
+
+        Iterator<Entry> it = entries.values().iterator()
+        while (weight > maxWeight && it.hasNext()) {
+            weight -= it.next().weight
+            it.remove()
+            evictions.incrementAndGet()
+        }
+    }
+
+    private void remove(String key) {
+        Entry entry = entries.remove(key)
+        if (entry) weight -= entry.weight
+    }
+
+    @Canonical
+    private static class Entry {
+        final Object value
+        final long weight
+    }
+
+    @Canonical
+    static class Stats {
+        final long memoryHits
+        final long diskHits
+        final long misses
+        final long evictions
+
+        @Override
+        String toString() {
+            "memoryHits=${memoryHits}, diskHits=${diskHits}, misses=${misses}, evictions=${evictions}".toString()
+        }
+    }
+}
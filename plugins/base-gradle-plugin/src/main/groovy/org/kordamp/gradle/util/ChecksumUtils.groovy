@@ -17,13 +17,37 @@
  */
 package org.kordamp.gradle.util
 
+import groovy.transform.CompileStatic
+import org.apache.commons.codec.binary.Hex
 import org.apache.commons.codec.digest.DigestUtils
 
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.security.MessageDigest
+import java.security.NoSuchAlgorithmException
+
 /**
  * @author Andres Almiray
  * @since 0.47.0
  */
+@CompileStatic
 class ChecksumUtils {
+    private static final int BUFFER_SIZE = 256 * 1024
+    private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            new byte[BUFFER_SIZE]
+        }
+    }
+    private static final ThreadLocal<Map<Algorithm, MessageDigest>> DIGESTS = new ThreadLocal<Map<Algorithm, MessageDigest>>() {
+        @Override
+        protected Map<Algorithm, MessageDigest> initialValue() {
+            new EnumMap<Algorithm, MessageDigest>(Algorithm)
+        }
+    }
+
     private ChecksumUtils() {
         // prevent instantiation
     }
@@ -54,4 +78,139 @@ class ChecksumUtils {
                 throw new IOException("Unsupported algorithm " + algorithm.name())
         }
     }
+
+    /**
+     * Computes the checksum of a file without loading it fully into memory.
+     * @since 0.55.0
+     */
+    static String checksum(Algorithm algorithm, File file) throws IOException {
+        checksums(file, algorithm).get(algorithm)
+    }
+
+    /**
+     * Computes the checksum of a file without loading it fully into memory.
+     * @since 0.55.0
+     */
+    static String checksum(Algorithm algorithm, Path path) throws IOException {
+        checksums(path, algorithm).get(algorithm)
+    }
+
+    /**
+     * Computes the checksum of the remaining contents of a stream. The stream is not closed.
+     * @since 0.55.0
+     */
+    static String checksum(Algorithm algorithm, InputStream input) throws IOException {
+        checksums(input, algorithm).get(algorithm)
+    }
+
+    /**
+     * Computes the checksum of a channel, from its current position to its end. The channel is not closed.
+     * @since 0.55.0
+     */
+    static String checksum(Algorithm algorithm, FileChannel channel) throws IOException {
+        checksums(channel, algorithm).get(algorithm)
+    }
+
+    /**
+     * Computes checksums for several algorithms reading the file only once.
+     *
+     * @return hex encoded checksums keyed by algorithm, in the order algorithms were given.
+     * @since 0.55.0
+     */
+    static Map<Algorithm, String> checksums(File file, Algorithm... algorithms) throws IOException {
+        checksums(file.toPath(), algorithms)
+    }
+
+    /**
+     * Computes checksums for several algorithms reading the file only once.
+     *
+     * @return hex encoded checksums keyed by algorithm, in the order algorithms were given.
+     * @since 0.55.0
+     */
+    static Map<Algorithm, String> checksums(Path path, Algorithm... algorithms) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)
+        try {
+            return checksums(channel, algorithms)
+        } finally {
+            channel.close()
+        }
+    }
+
+    /**
+     * Computes checksums for several algorithms in a single pass over a stream. The stream is not closed.
+     *
+     * @return hex encoded checksums keyed by algorithm, in the order algorithms were given.
+     * @since 0.55.0
+     */
+    static Map<Algorithm, String> checksums(InputStream input, Algorithm... algorithms) throws IOException {
+        algorithms = distinct(algorithms)
+        MessageDigest[] digests = digests(algorithms)
+        byte[] buffer = BUFFERS.get()
+
+        int read
+        while ((read = input.read(buffer)) != -1) {
+            update(digests, buffer, read)
+        }
+
+        hex(algorithms, digests)
+    }
+
+    /**
+     * Computes checksums for several algorithms in a single pass over a channel, from its current
+     * position to its end. The channel is not closed.
+     *
+     * @return hex encoded checksums keyed by algorithm, in the order algorithms were given.
+     * @since 0.55.0
+     */
+    static Map<Algorithm, String> checksums(FileChannel channel, Algorithm... algorithms) throws IOException {
+        algorithms = distinct(algorithms)
+        MessageDigest[] digests = digests(algorithms)
+        byte[] buffer = BUFFERS.get()
+        ByteBuffer wrapper = ByteBuffer.wrap(buffer)
+
+        while (channel.read(wrapper) != -1) {
+            update(digests, buffer, wrapper.position())
+            wrapper.clear()
+        }
+
+        hex(algorithms, digests)
+    }
+
+    private static Algorithm[] distinct(Algorithm... algorithms) {
+        if (!algorithms) throw new IllegalArgumentException('At least one algorithm must be given')
+        new LinkedHashSet<Algorithm>(Arrays.asList(algorithms)).toArray(new Algorithm[0])
+    }
+
+    private static MessageDigest[] digests(Algorithm... algorithms) throws IOException {
+        Map<Algorithm, MessageDigest> cache = DIGESTS.get()
+        MessageDigest[] digests = new MessageDigest[algorithms.length]
+        for (int i = 0; i < algorithms.length; i++) {
+            MessageDigest digest = cache.get(algorithms[i])
+            if (digest == null) {
+                try {
+                    digest = MessageDigest.getInstance(algorithms[i].name().replace('_', '-'))
+                } catch (NoSuchAlgorithmException e) {
+                    throw new IOException("Unsupported algorithm " + algorithms[i].name(), e)
+                }
+                cache.put(algorithms[i], digest)
+            }
+            digest.reset()
+            digests[i] = digest
+        }
+        digests
+    }
+
+    private static void update(MessageDigest[] digests, byte[] buffer, int length) {
+        for (MessageDigest digest : digests) {
+            digest.update(buffer, 0, length)
+        }
+    }
+
+    private static Map<Algorithm, String> hex(Algorithm[] algorithms, MessageDigest[] digests) {
+        Map<Algorithm, String> checksums = new LinkedHashMap<>()
+        for (int i = 0; i < algorithms.length; i++) {
+            checksums.put(algorithms[i], Hex.encodeHexString(digests[i].digest()))
+        }
+        checksums
+    }
 }
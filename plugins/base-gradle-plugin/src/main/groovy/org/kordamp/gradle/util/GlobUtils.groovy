@@ -19,6 +19,10 @@ package org.kordamp.gradle.util
 
 import groovy.transform.Canonical
 import groovy.transform.CompileStatic
+import groovy.transform.PackageScope
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.regex.Pattern
 
 /**
  *
@@ -29,6 +33,52 @@ import groovy.transform.CompileStatic
 @Canonical
 @CompileStatic
 class GlobUtils {
+    private static final int MAX_MATCHERS = 256
+    private static final Map<List<Object>, GlobMatcher> MATCHERS = new ConcurrentHashMap<>()
+
+    /**
+     * Returns a matcher for project paths. {@code *} and {@code ?} do not cross {@code :} boundaries, {@code **} does.
+     * Follows the semantics of {@code asGlobRegex(glob, true)}.
+     *
+     * @since 0.55.0
+     */
+    static GlobMatcher pathMatcher(Collection<String> globs) {
+        matcher(globs, ':' as char)
+    }
+
+    /**
+     * Returns a matcher for file paths. {@code *} and {@code ?} do not cross {@code /} boundaries, {@code **} does.
+     * Follows the semantics of {@code asGlobRegex(glob, false)}.
+     *
+     * @since 0.55.0
+     */
+    static GlobMatcher fileMatcher(Collection<String> globs) {
+        matcher(globs, '/' as char)
+    }
+
+    /**
+     * Returns a matcher for plain names. {@code *} matches any sequence of characters, {@code ?} any character.
+     *
+     * @since 0.55.0
+     */
+    static GlobMatcher nameMatcher(Collection<String> globs) {
+        matcher(globs, (char) 0)
+    }
+
+    private static GlobMatcher matcher(Collection<String> globs, char separator) {
+        // matchers are immutable and shared, the same set of globs is compiled once
+        List<Object> key = new ArrayList<Object>(globs.size() + 1)
+        key.add(separator)
+        key.addAll(globs)
+        GlobMatcher matcher = MATCHERS.get(key)
+        if (matcher == null) {
+            matcher = new GlobMatcher(globs, separator)
+            if (MATCHERS.size() >= MAX_MATCHERS) MATCHERS.clear()
+            MATCHERS.put(key, matcher)
+        }
+        matcher
+    }
+
     static String asGlobRegex(String globPattern, boolean isPathSyntax = false) {
         if (globPattern == '*') return '^.*$'
 
@@ -85,4 +135,173 @@ class GlobUtils {
         }
         return 0
     }
+
+    /**
+     * Tests a path against a set of globs in a single pass.
+     * Literal globs are looked up in a hash set. Other globs are compiled into a trie over path segments,
+     * where a segment is either a literal, a segment glob, or {@code **} spanning one or more segments.
+     * Globs with {@code **} embedded in a segment, such as {@code foo**}, are combined into a single regex.
+     *
+     * @since 0.55.0
+     */
+    @CompileStatic
+    static final class GlobMatcher {
+        private final char separator
+        private final Set<String> literals = new HashSet<>()
+        private final Node root = new Node()
+        private boolean hasTrie
+        private Pattern fallback
+
+        @PackageScope
+        GlobMatcher(Collection<String> globs, char separator) {
+            this.separator = separator
+            List<String> regexes = []
+            for (String glob : globs) {
+                if (glob == null) continue
+                // a lone * matches everything, as does **
+                if (glob == '*') glob = '**'
+                if (glob.indexOf('*') < 0 && glob.indexOf('?') < 0) {
+                    literals.add(glob)
+                } else if (separator == (char) 0) {
+                    root.child(glob).terminal = true
+                    hasTrie = true
+                } else {
+                    List<String> segments = split(glob)
+                    if (segments.any { String s -> s.contains('**') && s != '**' }) {
+                        regexes << asGlobRegex(glob, separator == (':' as char))
+                        continue
+                    }
+                    Node node = root
+                    for (String segment : segments) {
+                        node = node.child(segment)
+                    }
+                    node.terminal = true
+                    hasTrie = true
+                }
+            }
+            if (regexes) {
+                fallback = Pattern.compile(regexes.collect { '(?:' + it + ')' }.join('|'))
+            }
+        }
+
+        boolean isEmpty() {
+            literals.isEmpty() && !hasTrie && fallback == null
+        }
+
+        /**
+         * Whether the given path matches any of the globs.
+         */
+        boolean matches(String path) {
+            if (path == null) return false
+            if (literals.contains(path)) return true
+            if (hasTrie && matchesTrie(path)) return true
+            fallback != null && fallback.matcher(path).matches()
+        }
+
+        private boolean matchesTrie(String path) {
+            if (separator == (char) 0) {
+                return root.next(path, new ArrayList<Node>()).any { Node n -> n.terminal }
+            }
+
+            List<Node> active = [root]
+            for (String segment : split(path)) {
+                List<Node> next = []
+                for (Node node : active) {
+                    node.next(segment, next)
+                }
+                if (next.isEmpty()) return false
+                active = next
+            }
+            for (Node node : active) {
+                if (node.terminal) return true
+            }
+            false
+        }
+
+        private List<String> split(String s) {
+            List<String> segments = []
+            int start = 0
+            for (int i = 0; i < s.length(); i++) {
+                if (s.charAt(i) == separator) {
+                    segments << s.substring(start, i)
+                    start = i + 1
+                }
+            }
+            segments << s.substring(start)
+            segments
+        }
+    }
+
+    @PackageScope
+    @CompileStatic
+    static final class Node {
+        private final Map<String, Node> literals = new HashMap<>()
+        private final Map<String, Node> globs = new LinkedHashMap<>()
+        private Node deep
+        private boolean isDeep
+        boolean terminal
+
+        Node child(String segment) {
+            if (segment == '**') {
+                if (deep == null) {
+                    deep = new Node()
+                    deep.isDeep = true
+                }
+                return deep
+            }
+            Map<String, Node> children = segment.indexOf('*') < 0 && segment.indexOf('?') < 0 ? literals : globs
+            Node node = children.get(segment)
+            if (node == null) {
+                node = new Node()
+                children.put(segment, node)
+            }
+            node
+        }
+
+        List<Node> next(String segment, List<Node> result) {
+            // ** consumes one or more segments
+            if (isDeep) add(result, this)
+            Node literal = literals.get(segment)
+            if (literal != null) add(result, literal)
+            for (Map.Entry<String, Node> e : globs.entrySet()) {
+                if (matchSegment(e.key, segment)) add(result, e.value)
+            }
+            if (deep != null) add(result, deep)
+            result
+        }
+
+        /**
+         * Matches a glob against a single segment. {@code *} matches any sequence of characters,
+         * {@code ?} matches a single character, anything else is matched literally.
+         */
+        private static boolean matchSegment(String glob, String s) {
+            int g = 0
+            int i = 0
+            int star = -1
+            int mark = 0
+            while (i < s.length()) {
+                if (g < glob.length() && glob.charAt(g) == ('*' as char)) {
+                    star = g++
+                    mark = i
+                } else if (g < glob.length() && (glob.charAt(g) == ('?' as char) || glob.charAt(g) == s.charAt(i))) {
+                    g++
+                    i++
+                } else if (star >= 0) {
+                    g = star + 1
+                    i = ++mark
+                } else {
+                    return false
+                }
+            }
+            while (g < glob.length() && glob.charAt(g) == ('*' as char)) g++
+            g == glob.length()
+        }
+
+        private static void add(List<Node> nodes, Node node) {
+            for (Node n : nodes) {
+                if (n.is(node)) return
+            }
+            nodes.add(node)
+        }
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.base.model.artifact.internal
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+
+@Unroll
+class ModuleIndexSpec extends Specification {
+    private static final Map<String, String> MODULES = [
+        'commons-io'  : 'commons-io:commons-io:2.11.0',
+        'guava'       : 'com.google.guava:guava:31.1-jre',
+        'slf4j-api'   : 'org.slf4j:slf4j-api:1.7.36',
+        'junit-jupiter': 'org.junit.jupiter:junit-jupiter:5.9.2'
+    ]
+
+    def "Index returns mapped values"() {
+        given:
+        ModuleIndex index = ModuleIndex.of(MODULES)
+
+        expect:
+        index.size() == MODULES.size()
+        MODULES.every { k, v -> index.get(k) == v }
+        !index.get('missing')
+        index.keySet() == MODULES.keySet()
+        index.values() == new TreeSet<>(MODULES.values())
+    }
+
+    def "Index truncated to #length bytes is rejected"() {
+        expect:
+        map(bytes()[0..<length] as byte[]) == null
+
+        where:
+        length << [0, 8, 12, 20, 30, bytes().length - 20, bytes().length - 1]
+    }
+
+    def "Index with corrupt offset #offset is rejected"() {
+        given:
+        byte[] bytes = bytes()
+        ByteBuffer.wrap(bytes).putInt(16, offset)
+
+        expect:
+        map(bytes) == null
+
+        where:
+        offset << [-1, 0, 12, Integer.MAX_VALUE]
+    }
+
+    def "Mapped index returns mapped values"() {
+        expect:
+        map(bytes()).get('guava') == MODULES.guava
+    }
+
+    private static byte[] bytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        ModuleIndex.write(MODULES, out)
+        out.toByteArray()
+    }
+
+    private static ModuleIndex map(byte[] bytes) {
+        Path file = Files.createTempFile('module-index', '.bin')
+        try {
+            file.bytes = bytes
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)
+            try {
+                return ModuleIndex.map(channel)
+            } finally {
+                channel.close()
+            }
+        } finally {
+            Files.deleteIfExists(file)
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.util
+
+import org.kordamp.gradle.annotations.DependsOn
+import spock.lang.Specification
+
+import javax.inject.Named
+
+class AnnotationUtilsSpec extends Specification {
+    void cleanup() {
+        AnnotationUtils.clearSortCache()
+    }
+
+    def "Instances are sorted by their dependencies"() {
+        when:
+        Map<String, Object> sorted = AnnotationUtils.sortByDependencies('test',
+            [new C(), new B(), new A(), new D()], '', 'listener')
+
+        then:
+        sorted.keySet().toList() == ['a', 'd', 'b', 'c']
+    }
+
+    def "Sorting scans instances in order, deferring those whose dependencies come later"() {
+        when:
+        Map<String, Object> sorted = AnnotationUtils.sortByDependencies('test',
+            [new B(), new D(), new A()], '', 'listener')
+
+        then:
+        sorted.keySet().toList() == ['d', 'a', 'b']
+    }
+
+    def "Cyclical and missing dependencies are added at the end in their original order"() {
+        when:
+        Map<String, Object> sorted = AnnotationUtils.sortByDependencies('test',
+            [new X(), new A(), new Y(), new M()], '', 'listener')
+
+        then:
+        sorted.keySet().toList() == ['a', 'x', 'y', 'm']
+    }
+
+    def "Computed orders are reused for the same sequence of classes"() {
+        given:
+        A a1 = new A()
+        B b1 = new B()
+        A a2 = new A()
+        B b2 = new B()
+
+        when:
+        Map<String, Object> first = AnnotationUtils.sortByDependencies('first', [b1, a1], '', 'listener')
+        Map<String, Object> second = AnnotationUtils.sortByDependencies('second', [b2, a2], '', 'listener')
+
+        then:
+        first.a.is(a1)
+        first.b.is(b1)
+        second.keySet().toList() == ['a', 'b']
+        second.a.is(a2)
+        second.b.is(b2)
+    }
+
+    def "Explicit order is honored"() {
+        when:
+        Map<String, Object> sorted = AnnotationUtils.sortByDependencies('test',
+            [new A(), new D(), new B()], '', 'listener', ['d'])
+
+        then:
+        sorted.keySet().toList() == ['d', 'a', 'b']
+    }
+
+    @Named('a')
+    static class A {}
+
+    @Named('b')
+    @DependsOn(['a'])
+    static class B {}
+
+    @Named('c')
+    @DependsOn(['b', 'd'])
+    static class C {}
+
+    @Named('d')
+    static class D {}
+
+    @Named('x')
+    @DependsOn(['y'])
+    static class X {}
+
+    @Named('y')
+    @DependsOn(['x'])
+    static class Y {}
+
+    @Named('m')
+    @DependsOn(['missing'])
+    static class M {}
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.util
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.channels.FileChannel
+import java.nio.file.StandardOpenOption
+
+@Unroll
+class ChecksumUtilsSpec extends Specification {
+    @Rule
+    TemporaryFolder folder = new TemporaryFolder()
+
+    def "Streaming #algorithm checksums match the byte array checksum for #size bytes"() {
+        given:
+        byte[] data = new byte[size]
+        new Random(size).nextBytes(data)
+        File file = folder.newFile()
+        file.bytes = data
+        String expected = ChecksumUtils.checksum(algorithm, data)
+
+        expect:
+        ChecksumUtils.checksum(algorithm, file) == expected
+        ChecksumUtils.checksum(algorithm, file.toPath()) == expected
+        ChecksumUtils.checksum(algorithm, new ByteArrayInputStream(data)) == expected
+        FileChannel.open(file.toPath(), StandardOpenOption.READ).withCloseable { FileChannel channel ->
+            ChecksumUtils.checksum(algorithm, channel)
+        } == expected
+
+        where:
+        [algorithm, size] << [Algorithm.values().toList(), [0, 1, 4096, 1024 * 1024 + 7]].combinations()
+    }
+
+    def "Several checksums are computed in one pass"() {
+        given:
+        byte[] data = new byte[300 * 1024]
+        new Random(42).nextBytes(data)
+        File file = folder.newFile()
+        file.bytes = data
+        Algorithm[] algorithms = [Algorithm.SHA_512, Algorithm.MD5, Algorithm.SHA3_256, Algorithm.MD5] as Algorithm[]
+
+        when:
+        Map<Algorithm, String> fromFile = ChecksumUtils.checksums(file, algorithms)
+        Map<Algorithm, String> fromStream = ChecksumUtils.checksums(new ByteArrayInputStream(data), algorithms)
+
+        then:
+        fromFile.keySet().toList() == [Algorithm.SHA_512, Algorithm.MD5, Algorithm.SHA3_256]
+        fromFile == fromStream
+        fromFile.every { algorithm, checksum -> checksum == ChecksumUtils.checksum(algorithm, data) }
+    }
+}
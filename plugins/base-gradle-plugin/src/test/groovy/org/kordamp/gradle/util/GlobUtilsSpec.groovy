@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.util
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.regex.Pattern
+
+@Unroll
+class GlobUtilsSpec extends Specification {
+    def "Path glob #glob matching #path is #expected"() {
+        expect:
+        GlobUtils.pathMatcher([glob]).matches(path) == expected
+        Pattern.compile(GlobUtils.asGlobRegex(glob, true)).matcher(path).matches() == expected
+
+        where:
+        glob             | path                 | expected
+        ':foo'           | ':foo'               | true
+        ':foo'           | ':bar'               | false
+        '*'              | ':foo:bar'           | true
+        '**'             | ':foo:bar'           | true
+        ':*'             | ':foo'               | true
+        ':*'             | ':foo:bar'           | false
+        ':foo:*'         | ':foo:bar'           | true
+        ':foo:*'         | ':foo:'              | true
+        ':foo:*'         | ':foo'               | false
+        ':foo:*'         | ':foo:bar:baz'       | false
+        ':foo:**'        | ':foo:bar:baz'       | true
+        ':foo:**:baz'    | ':foo:bar:qux:baz'   | true
+        ':foo:**:baz'    | ':foo:baz'           | false
+        ':*-core'        | ':app-core'          | true
+        ':*-core'        | ':app-api'           | false
+        ':fo?'           | ':foo'               | true
+        ':fo?'           | ':fooo'              | false
+        ':foo**'         | ':foo:bar:baz'       | true
+        ':foo**'         | ':bar:foo'           | false
+        ':a.b'           | ':a.b'               | true
+        ':a.b'           | ':axb'               | false
+    }
+
+    def "File glob #glob matching #path is #expected"() {
+        expect:
+        GlobUtils.fileMatcher([glob]).matches(path) == expected
+        Pattern.compile(GlobUtils.asGlobRegex(glob, false)).matcher(path).matches() == expected
+
+        where:
+        glob             | path                 | expected
+        'docs'           | 'docs'               | true
+        'docs/*'         | 'docs/guide'         | true
+        'docs/*'         | 'docs/guide/src'     | false
+        'docs/**'        | 'docs/guide/src'     | true
+        '*-tests'        | 'unit-tests'         | true
+        '*-tests'        | 'sub/unit-tests'     | false
+    }
+
+    def "Name glob #glob matching #name is #expected"() {
+        expect:
+        GlobUtils.nameMatcher([glob]).matches(name) == expected
+
+        where:
+        glob             | name                 | expected
+        ':foo'           | ':foo'               | true
+        ':foo:*'         | ':foo:bar:baz'       | true
+        '*'              | ':foo:bar'           | true
+        ':*-core'        | ':app:api-core'      | true
+        ':fo?'           | ':foo'               | true
+        ':fo?'           | ':fooo'              | false
+    }
+
+    def "A matcher tests all globs at once"() {
+        given:
+        GlobUtils.GlobMatcher matcher = GlobUtils.pathMatcher([':app', ':libs:*', ':tools:**:cli', ':x*y:z'])
+
+        expect:
+        matcher.matches(':app')
+        matcher.matches(':libs:core')
+        matcher.matches(':tools:a:b:cli')
+        matcher.matches(':xay:z')
+        !matcher.matches(':libs:core:impl')
+        !matcher.matches(':tools:cli')
+        !matcher.matches(':other')
+    }
+
+    def "Matchers for the same globs are shared"() {
+        expect:
+        GlobUtils.pathMatcher([':a', ':b:*']).is(GlobUtils.pathMatcher([':a', ':b:*']))
+        !GlobUtils.pathMatcher([':a']).is(GlobUtils.fileMatcher([':a']))
+    }
+}
@@ -32,6 +32,7 @@ import org.gradle.api.internal.tasks.TaskStateInternal
 import org.gradle.api.invocation.Gradle
 import org.gradle.api.tasks.CacheableTask
 import org.gradle.api.tasks.TaskState
+import org.kordamp.gradle.listener.ProjectEvaluationListenerManager
 import org.kordamp.gradle.plugin.insight.InsightExtension
 import org.kordamp.gradle.plugin.insight.model.Build
 import org.kordamp.gradle.plugin.insight.model.BuildReport
@@ -40,6 +41,7 @@ import org.kordamp.gradle.plugin.insight.model.Task
 import org.kordamp.gradle.plugin.insight.reports.SummaryBuildReport
 
 import java.time.ZonedDateTime
+import java.util.concurrent.ConcurrentHashMap
 
 /**
  *
@@ -53,6 +55,7 @@ class BuildHelper extends BuildAdapter implements ProjectEvaluationListener,
 
     private final Settings settings
     private final Build build = new Build()
+    private final Map<Class<?>, Boolean> cacheableTypes = new ConcurrentHashMap<>()
 
     BuildHelper(Settings settings) {
         this.settings = settings
@@ -72,6 +75,8 @@ class BuildHelper extends BuildAdapter implements ProjectEvaluationListener,
     @Override
     void projectsEvaluated(Gradle gradle) {
         build.setProjectsEvaluated(System.currentTimeMillis())
+        // keep a reference, the manager is discarded when the build finishes
+        build.setListenerTimings(ProjectEvaluationListenerManager.timings(gradle))
     }
 
     @Override
@@ -83,16 +88,21 @@ class BuildHelper extends BuildAdapter implements ProjectEvaluationListener,
 
     @Override
     void beforeEvaluate(org.gradle.api.Project project) {
+        long nanos = System.nanoTime()
         Project p = build.projects.computeIfAbsent(project.path, { k -> new Project(k, project.name, project) })
-        long millis = System.currentTimeMillis()
+        long millis = build.toEpochMillis(nanos)
         p.setStartEvaluate(millis)
         p.setEndEvaluate(millis)
+        p.setStartEvaluateNanos(nanos)
+        p.setEndEvaluateNanos(nanos)
     }
 
     @Override
     void afterEvaluate(org.gradle.api.Project project, ProjectState projectState) {
+        long nanos = System.nanoTime()
         Project p = build.projects.get(project.path)
-        p.setEndEvaluate(System.currentTimeMillis())
+        p.setEndEvaluate(build.toEpochMillis(nanos))
+        p.setEndEvaluateNanos(nanos)
     }
 
     @Override
@@ -104,31 +114,40 @@ class BuildHelper extends BuildAdapter implements ProjectEvaluationListener,
             .each { projectPath, tasks ->
                 build.projects[projectPath].tasksToBeExecuted.addAll(tasks*.path)
             }
+
+        // record the edges of the task DAG, restricted to tasks scheduled for execution
+        graph.allTasks.each { task ->
+            build.taskDependencies[task.path] = new LinkedHashSet<String>(graph.getDependencies(task)
+                .findAll { graph.hasTask(it) }*.path)
+        }
     }
 
     @Override
     void beforeExecute(org.gradle.api.Task task) {
+        long nanos = System.nanoTime()
         Task t = build.projects.get(task.project.path)
             .tasks.computeIfAbsent(task.path, { k -> new Task(k, task.name) })
-        long millis = System.currentTimeMillis()
+        long millis = build.toEpochMillis(nanos)
         t.setBeforeExecute(millis)
         t.setAfterExecute(millis)
+        t.setBeforeExecuteNanos(nanos)
+        t.setAfterExecuteNanos(nanos)
 
-        Class<?> clazz = task.getClass()
-        while (clazz != null) {
-            if (clazz.getAnnotation(CacheableTask.class) != null) {
-                t.setCacheable(true)
-                break
-            }
-            clazz = clazz.getSuperclass()
-        }
+        // listener callbacks run on the worker thread that executes the task
+        Thread thread = Thread.currentThread()
+        t.setWorker(thread.name)
+        t.setLane(build.workerLane(thread))
+
+        t.setCacheable(isCacheable(task.getClass()))
     }
 
     @Override
     void afterExecute(org.gradle.api.Task task, TaskState state) {
+        long nanos = System.nanoTime()
         Task t = build.projects.get(task.project.path)
             .tasks.get(task.path)
-        t.setAfterExecute(System.currentTimeMillis())
+        t.setAfterExecute(build.toEpochMillis(nanos))
+        t.setAfterExecuteNanos(nanos)
 
         t.setExecuted(state.executed)
         t.setSkipped(state.skipped)
@@ -140,6 +159,48 @@ class BuildHelper extends BuildAdapter implements ProjectEvaluationListener,
             t.setFromCache(((TaskStateInternal) state).fromCache)
             t.setActionable(((TaskStateInternal) state).actionable)
         }
+        if (t.cacheable) t.setInputFingerprint(inputFingerprint(task))
+    }
+
+    /**
+     * Hashes input property values and the path, size and timestamp of input files. Cheaper than
+     * hashing contents and good enough to tell whether a task ran on the same inputs as a previous build.
+     * Returns {@code 0} when the inputs cannot be queried.
+     */
+    private static long inputFingerprint(org.gradle.api.Task task) {
+        try {
+            long hash = 17L
+            for (Map.Entry<String, Object> e : new TreeMap<String, Object>(task.inputs.properties).entrySet()) {
+                hash = 31L * hash + e.key.hashCode()
+                hash = 31L * hash + String.valueOf(e.value).hashCode()
+            }
+            for (File file : task.inputs.files.files) {
+                hash = 31L * hash + file.absolutePath.hashCode()
+                hash = 31L * hash + file.length()
+                hash = 31L * hash + file.lastModified()
+            }
+            return hash != 0L ? hash : 1L
+        } catch (Exception ignored) {
+            // some input properties may not be queried after execution
+            return 0L
+        }
+    }
+
+    private boolean isCacheable(Class<?> type) {
+        Boolean cacheable = cacheableTypes.get(type)
+        if (cacheable == null) {
+            cacheable = false
+            Class<?> clazz = type
+            while (clazz != null) {
+                if (clazz.getAnnotation(CacheableTask.class) != null) {
+                    cacheable = true
+                    break
+                }
+                clazz = clazz.getSuperclass()
+            }
+            cacheableTypes.put(type, cacheable)
+        }
+        cacheable
     }
 
     private void writeReports() {
@@ -0,0 +1,307 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.insight.internal
+
+import groovy.transform.CompileStatic
+import org.kordamp.gradle.plugin.insight.model.Build
+import org.kordamp.gradle.plugin.insight.model.Project
+import org.kordamp.gradle.plugin.insight.model.Task
+
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.channels.FileLock
+import java.nio.channels.OverlappingFileLockException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.util.zip.Deflater
+import java.util.zip.DeflaterOutputStream
+import java.util.zip.InflaterInputStream
+
+/**
+ * Append-only store of past builds.
+ * The file starts with a header followed by length-prefixed, deflated records, one per build.
+ * Once the number of records exceeds the retention limit the file is rewritten in place keeping
+ * only the most recent records. A truncated trailing record (interrupted write) is ignored.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+class BuildHistory {
+    private static final int MAGIC = 0x4B494E53 // KINS
+    private static final int VERSION = 2
+    private static final int HEADER_SIZE = 8
+    private static final int LOCK_ATTEMPTS = 200
+    private static final long LOCK_RETRY_DELAY = 25L
+
+    private final Path file
+    private final int maxBuilds
+
+    BuildHistory(File file, int maxBuilds) {
+        this.file = file.toPath()
+        this.maxBuilds = Math.max(1, maxBuilds)
+    }
+
+    /**
+     * Reads all records in the store, oldest first.
+     */
+    List<BuildRecord> read() throws IOException {
+        if (!Files.exists(file)) return []
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)
+        try {
+            return doRead(channel).records
+        } finally {
+            channel.close()
+        }
+    }
+
+    /**
+     * Appends a record to the store, compacting it when retention is exceeded.
+     */
+    void append(BuildRecord record) throws IOException {
+        Files.createDirectories(file.parent)
+
+        FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+        try {
+            // concurrent builds sharing the same store are serialized
+            FileLock lock = acquireFileLock(channel)
+            try {
+                Contents contents = doRead(channel)
+                List<BuildRecord> records = [record]
+                long position = contents.end
+                if (contents.records.size() + 1 > maxBuilds + Math.max(1, Math.floorDiv(maxBuilds, 4))) {
+                    // allow some slack, rewriting on every build would defeat the purpose of appending
+                    records = contents.records.subList(contents.records.size() + 1 - maxBuilds, contents.records.size())
+                    records.add(record)
+                    position = HEADER_SIZE
+                }
+
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+                DataOutputStream out = new DataOutputStream(bytes)
+                if (position == HEADER_SIZE) {
+                    out.writeInt(MAGIC)
+                    out.writeInt(VERSION)
+                    position = 0L
+                }
+                for (BuildRecord r : records) {
+                    byte[] encoded = encode(r)
+                    out.writeInt(encoded.length)
+                    out.write(encoded)
+                }
+                out.flush()
+
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray())
+                writeFully(channel, buffer, position)
+                channel.truncate(position + buffer.limit())
+                channel.force(false)
+            } finally {
+                lock?.release()
+            }
+        } finally {
+            channel.close()
+        }
+    }
+
+    private static Contents doRead(FileChannel channel) throws IOException {
+        Contents contents = new Contents()
+        long size = channel.size()
+        if (size < HEADER_SIZE) return contents
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+        readFully(channel, header, 0L)
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            // unknown format, start over
+            return contents
+        }
+
+        long position = HEADER_SIZE
+        ByteBuffer length = ByteBuffer.allocate(4)
+        while (position + 4 <= size) {
+            length.clear()
+            readFully(channel, length, position)
+            int recordSize = length.getInt(0)
+            if (recordSize <= 0 || position + 4 + recordSize > size) break
+
+            ByteBuffer payload = ByteBuffer.allocate(recordSize)
+            readFully(channel, payload, position + 4)
+            try {
+                contents.records.add(decode(payload.array()))
+            } catch (IOException ignored) {
+                break
+            }
+            position += 4 + recordSize
+            contents.end = position
+        }
+
+        contents
+    }
+
+    private static byte[] encode(BuildRecord record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_SPEED)))
+        try {
+            out.writeLong(record.startTime)
+            out.writeLong(record.duration)
+            out.writeLong(record.configuration)
+            out.writeBoolean(record.failure)
+            out.writeInt(record.projects.size())
+            for (Map.Entry<String, Long> e : record.projects.entrySet()) {
+                out.writeUTF(e.key)
+                out.writeLong(e.value)
+            }
+            out.writeInt(record.tasks.size())
+            for (TaskRecord t : record.tasks.values()) {
+                out.writeUTF(t.path)
+                out.writeLong(t.duration)
+                out.writeByte(t.flags)
+                out.writeLong(t.fingerprint)
+            }
+        } finally {
+            out.close()
+        }
+        bytes.toByteArray()
+    }
+
+    private static BuildRecord decode(byte[] bytes) throws IOException {
+        DataInputStream input = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(bytes)))
+        try {
+            BuildRecord record = new BuildRecord()
+            record.startTime = input.readLong()
+            record.duration = input.readLong()
+            record.configuration = input.readLong()
+            record.failure = input.readBoolean()
+            int projectCount = input.readInt()
+            for (int i = 0; i < projectCount; i++) {
+                record.projects.put(input.readUTF(), input.readLong())
+            }
+            int taskCount = input.readInt()
+            for (int i = 0; i < taskCount; i++) {
+                TaskRecord t = new TaskRecord(input.readUTF(), input.readLong(), input.readByte(), input.readLong())
+                record.tasks.put(t.path, t)
+            }
+            return record
+        } finally {
+            input.close()
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) throw new EOFException()
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position())
+        }
+    }
+
+    private static FileLock acquireFileLock(FileChannel channel) {
+        for (int attempt = 0; attempt < LOCK_ATTEMPTS; attempt++) {
+            try {
+                return channel.lock()
+            } catch (IOException ignored) {
+                // some file systems do not support locking
+                return null
+            } catch (OverlappingFileLockException ignored) {
+                // held by another thread of this JVM, e.g. a plugin loaded by another classloader
+                Thread.sleep(LOCK_RETRY_DELAY)
+            }
+        }
+        null
+    }
+
+    @CompileStatic
+    private static class Contents {
+        final List<BuildRecord> records = []
+        long end = HEADER_SIZE
+    }
+
+    @CompileStatic
+    static class BuildRecord {
+        long startTime
+        long duration
+        long configuration
+        boolean failure
+        final Map<String, Long> projects = new LinkedHashMap<>()
+        final Map<String, TaskRecord> tasks = new LinkedHashMap<>()
+
+        static BuildRecord of(Build build) {
+            BuildRecord record = new BuildRecord()
+            record.startTime = build.startTime
+            record.duration = Math.max(0L, build.endTime - build.startTime)
+            record.configuration = Math.max(0L, build.projectsEvaluated - build.settingsEvaluated)
+            record.failure = build.failure
+            for (Project project : build.projects.values()) {
+                record.projects.put(project.path, Math.max(0L, project.endEvaluateNanos - project.startEvaluateNanos))
+            }
+            for (Task task : build.executedTasks) {
+                record.tasks.put(task.path, TaskRecord.of(task))
+            }
+            record
+        }
+    }
+
+    @CompileStatic
+    static class TaskRecord {
+        static final int CACHEABLE = 1
+        static final int FROM_CACHE = 2
+        static final int UP_TO_DATE = 4
+        static final int DID_WORK = 8
+        static final int FAILED = 16
+
+        final String path
+        final long duration
+        final int flags
+        final long fingerprint
+
+        TaskRecord(String path, long duration, int flags, long fingerprint) {
+            this.path = path
+            this.duration = duration
+            this.flags = flags
+            this.fingerprint = fingerprint
+        }
+
+        static TaskRecord of(Task task) {
+            int flags = 0
+            if (task.cacheable) flags |= CACHEABLE
+            if (task.fromCache) flags |= FROM_CACHE
+            if (task.upToDate) flags |= UP_TO_DATE
+            if (task.didWork) flags |= DID_WORK
+            if (task.failed) flags |= FAILED
+            new TaskRecord(task.path, Math.max(0L, task.afterExecuteNanos - task.beforeExecuteNanos), flags, task.inputFingerprint)
+        }
+
+        boolean isCacheable() { (flags & CACHEABLE) != 0 }
+
+        boolean isFromCache() { (flags & FROM_CACHE) != 0 }
+
+        boolean isUpToDate() { (flags & UP_TO_DATE) != 0 }
+
+        boolean isFailed() { (flags & FAILED) != 0 }
+
+        /**
+         * Whether the task actions ran, as opposed to being avoided by up-to-date checks or the build cache.
+         */
+        boolean isWorked() { (flags & DID_WORK) != 0 && !isFromCache() && !isUpToDate() }
+    }
+}
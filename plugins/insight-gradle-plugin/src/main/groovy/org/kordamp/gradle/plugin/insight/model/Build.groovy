@@ -19,8 +19,12 @@ package org.kordamp.gradle.plugin.insight.model
 
 import groovy.transform.Canonical
 import groovy.transform.CompileStatic
+import org.kordamp.gradle.listener.ListenerTimings
 
 import java.time.ZonedDateTime
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 
 /**
  *
@@ -31,7 +35,9 @@ import java.time.ZonedDateTime
 @CompileStatic
 class Build {
     final long startTime = System.currentTimeMillis()
-    final Map<String, Project> projects = new LinkedHashMap<>()
+    final long startNanos = System.nanoTime()
+    final Map<String, Project> projects = Collections.synchronizedMap(new LinkedHashMap<String, Project>())
+    final Map<String, Set<String>> taskDependencies = new ConcurrentHashMap<>()
     long endTime
     long settingsEvaluated
     long projectsLoaded
@@ -41,6 +47,10 @@ class Build {
     ZonedDateTime start = ZonedDateTime.now()
     ZonedDateTime end
     String rootProjectName
+    ListenerTimings listenerTimings
+
+    private final Map<Long, Integer> workerLanes = new ConcurrentHashMap<>()
+    private final AtomicInteger laneCounter = new AtomicInteger()
 
     void setEnd(ZonedDateTime e) {
         this.end = e
@@ -58,4 +68,72 @@ class Build {
     double getProjectEvalDuration() {
         Math.max(0, projectsEvaluated - projectsLoaded) / 1000d
     }
+
+    /**
+     * Converts a {@code System.nanoTime()} reading into epoch millis, relative to the start of the build.
+     *
+     * @since 0.55.0
+     */
+    long toEpochMillis(long nanos) {
+        startTime + TimeUnit.NANOSECONDS.toMillis(nanos - startNanos)
+    }
+
+    /**
+     * Returns the lane assigned to the given thread. Lanes are numbered in order of first appearance.
+     *
+     * @since 0.55.0
+     */
+    int workerLane(Thread thread) {
+        workerLanes.computeIfAbsent(thread.id, { k -> laneCounter.getAndIncrement() })
+    }
+
+    /**
+     * All tasks that were executed, in order of execution start.
+     *
+     * @since 0.55.0
+     */
+    List<Task> getExecutedTasks() {
+        List<Task> executed = new ArrayList<>()
+        for (Project project : projects.values()) {
+            synchronized (project.tasks) {
+                executed.addAll(project.tasks.values())
+            }
+        }
+        executed.sort { Task a, Task b -> Long.compare(a.beforeExecuteNanos, b.beforeExecuteNanos) }
+        executed
+    }
+
+    /**
+     * Executed tasks grouped by worker lane.
+     *
+     * @since 0.55.0
+     */
+    Map<Integer, List<Task>> getLanes() {
+        Map<Integer, List<Task>> lanes = new TreeMap<>()
+        for (Project project : projects.values()) {
+            for (Task task : project.tasks.values()) {
+                lanes.computeIfAbsent(task.lane, { k -> new ArrayList<Task>() }).add(task)
+            }
+        }
+        lanes
+    }
+
+    /**
+     * Ratio between the accumulated time spent executing tasks and the wall time of task execution.
+     *
+     * @since 0.55.0
+     */
+    double getParallelism() {
+        long busy = 0
+        long first = Long.MAX_VALUE
+        long last = Long.MIN_VALUE
+        for (Project project : projects.values()) {
+            for (Task task : project.tasks.values()) {
+                busy += Math.max(0, task.afterExecuteNanos - task.beforeExecuteNanos)
+                first = Math.min(first, task.beforeExecuteNanos)
+                last = Math.max(last, task.afterExecuteNanos)
+            }
+        }
+        last > first ? busy / (double) (last - first) : 0d
+    }
 }
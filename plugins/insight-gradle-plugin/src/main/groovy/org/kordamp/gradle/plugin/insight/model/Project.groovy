@@ -38,7 +38,9 @@ class Project {
     final String path
     long startEvaluate
     long endEvaluate
-    final Map<String, Task> tasks = new LinkedHashMap<>()
+    long startEvaluateNanos
+    long endEvaluateNanos
+    final Map<String, Task> tasks = Collections.synchronizedMap(new LinkedHashMap<String, Task>())
     final Set<String> tasksToBeExecuted = new LinkedHashSet<>()
 
     private final org.gradle.api.Project gradleProject
@@ -51,7 +53,7 @@ class Project {
     }
 
     double getConfDuration() {
-        Math.max(0, endEvaluate - startEvaluate) / 1000d
+        Math.max(0, endEvaluateNanos - startEvaluateNanos) / 1_000_000_000d
     }
 
     double getExecDuration() {
@@ -89,7 +91,7 @@ class Project {
     private double calculateExecDuration() {
         Set<TimeSlot> slots = new TreeSet<>()
         tasks.values().each { task ->
-            TimeSlot slot = new TimeSlot(start: task.beforeExecute, end: task.afterExecute)
+            TimeSlot slot = new TimeSlot(start: task.beforeExecuteNanos, end: task.afterExecuteNanos)
             TimeSlot existing = slots.find({ s -> s.intersects(slot) })
             if (existing) {
                 existing.expand(slot)
@@ -118,7 +120,7 @@ class Project {
         }
 
         double getDuration() {
-            Math.max(0, end - start) / 1000d
+            Math.max(0, end - start) / 1_000_000_000d
         }
     }
 }
@@ -39,6 +39,11 @@ class Task {
 
     long beforeExecute
     long afterExecute
+    long beforeExecuteNanos
+    long afterExecuteNanos
+
+    String worker
+    int lane
 
     boolean executed
     boolean skipped
@@ -49,13 +54,19 @@ class Task {
     boolean failed
     boolean actionable
 
+    /**
+     * Fingerprint of the task's inputs, {@code 0} when not computed.
+     * @since 0.55.0
+     */
+    long inputFingerprint
+
     Task(String path, String name) {
         this.path = path
         this.name = name
     }
 
     double getExecDuration() {
-        Math.max(0, afterExecute - beforeExecute) / 1000d
+        Math.max(0, afterExecuteNanos - beforeExecuteNanos) / 1_000_000_000d
     }
 
     enum State {
@@ -0,0 +1,220 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.insight.reports
+
+import groovy.transform.CompileStatic
+import org.gradle.api.invocation.Gradle
+import org.gradle.api.model.ObjectFactory
+import org.gradle.api.provider.Property
+import org.kordamp.gradle.plugin.insight.InsightExtension
+import org.kordamp.gradle.plugin.insight.model.Build
+import org.kordamp.gradle.plugin.insight.model.BuildReport
+import org.kordamp.gradle.plugin.insight.model.Task
+import org.kordamp.gradle.util.TimeUtils
+
+import javax.inject.Inject
+
+/**
+ * Reconstructs the executed task graph and reports its critical path, idle worker time,
+ * achieved parallelism and the tasks whose speed-up would shorten the build the most.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+class CriticalPathBuildReport implements BuildReport {
+    final Property<Boolean> enabled
+    final Property<Integer> maxTaskPathSize
+    final Property<Integer> maxTasks
+
+    @Inject
+    CriticalPathBuildReport(ObjectFactory objects) {
+        this.enabled = objects.property(Boolean).convention(true)
+        this.maxTaskPathSize = objects.property(Integer).convention(48)
+        this.maxTasks = objects.property(Integer).convention(10)
+    }
+
+    @Override
+    void report(Gradle gradle, InsightExtension extension, Build build) throws Exception {
+        Analysis analysis = analyze(build)
+        if (!analysis) return
+
+        int paddingSize = Math.max(13, maxTaskPathSize.get())
+        String header = '             TIME      SAVING'
+        String separator = '-' * (paddingSize + header.size())
+
+        println('\n' + separator)
+        println("CRITICAL PATH (${analysis.criticalPath.size()} tasks)".padRight(paddingSize) + header)
+        println(separator)
+        for (Node node : analysis.criticalPath) {
+            println(row(node, paddingSize))
+        }
+        println(separator)
+
+        List<Node> candidates = analysis.criticalPath
+            .findAll { it.saving > 0 }
+            .sort { Node a, Node b -> Long.compare(b.saving, a.saving) ?: Long.compare(b.duration, a.duration) }
+            .take(maxTasks.get())
+        if (candidates) {
+            println('SPEED-UP CANDIDATES'.padRight(paddingSize) + header)
+            println(separator)
+            for (Node node : candidates) {
+                println(row(node, paddingSize))
+            }
+            println(separator)
+        }
+
+        println(String.format(Locale.ROOT, 'wall time %s, critical path %s, busy %s, idle %s',
+            TimeUtils.formatDuration(seconds(analysis.wall)),
+            TimeUtils.formatDuration(seconds(analysis.criticalLength)),
+            TimeUtils.formatDuration(seconds(analysis.busy)),
+            TimeUtils.formatDuration(seconds(analysis.idle))))
+        println(String.format(Locale.ROOT, '%d workers, %.2fx achieved parallelism, %.2fx available parallelism',
+            analysis.workers, analysis.achievedParallelism, analysis.availableParallelism))
+        println(separator)
+    }
+
+    /**
+     * Computes the critical path of the executed task graph. Returns {@code null} if no tasks were executed.
+     */
+    static Analysis analyze(Build build) {
+        List<Task> tasks = build.executedTasks
+        if (!tasks) return null
+
+        // tasks are sorted by start time and a task never starts before its dependencies
+        // have finished, hence this order is also a topological order of the graph
+        Map<String, Node> nodes = new LinkedHashMap<>()
+        for (Task task : tasks) {
+            nodes.put(task.path, new Node(task))
+        }
+        for (Node node : nodes.values()) {
+            Set<String> dependencies = build.taskDependencies.get(node.task.path)
+            if (!dependencies) continue
+            for (String path : dependencies) {
+                Node dependency = nodes.get(path)
+                if (dependency) {
+                    node.dependencies.add(dependency)
+                    dependency.dependents.add(node)
+                }
+            }
+        }
+
+        List<Node> order = new ArrayList<>(nodes.values())
+        Node last = null
+        for (Node node : order) {
+            Node longest = null
+            for (Node dependency : node.dependencies) {
+                if (!longest || dependency.head > longest.head) longest = dependency
+            }
+            node.predecessor = longest
+            node.head = node.duration + (longest ? longest.head : 0L)
+            if (!last || node.head > last.head) last = node
+        }
+        for (int i = order.size() - 1; i >= 0; i--) {
+            Node node = order[i]
+            long tail = 0L
+            for (Node dependent : node.dependents) {
+                tail = Math.max(tail, dependent.tail)
+            }
+            node.tail = node.duration + tail
+        }
+
+        Analysis analysis = new Analysis()
+        analysis.criticalLength = last.head
+        for (Node node = last; node != null; node = node.predecessor) {
+            node.critical = true
+            analysis.criticalPath.add(0, node)
+        }
+
+        // shortening a critical task helps until the longest chain that avoids it becomes critical
+        long nextLongest = 0L
+        for (Node node : order) {
+            if (!node.critical) nextLongest = Math.max(nextLongest, node.head + node.tail - node.duration)
+        }
+        for (Node node : analysis.criticalPath) {
+            node.saving = Math.min(node.duration, analysis.criticalLength - nextLongest)
+        }
+
+        long first = Long.MAX_VALUE
+        long end = Long.MIN_VALUE
+        Set<Integer> lanes = new HashSet<>()
+        for (Task task : tasks) {
+            analysis.busy += Math.max(0L, task.afterExecuteNanos - task.beforeExecuteNanos)
+            first = Math.min(first, task.beforeExecuteNanos)
+            end = Math.max(end, task.afterExecuteNanos)
+            lanes.add(task.lane)
+        }
+        analysis.workers = lanes.size()
+        analysis.wall = Math.max(0L, end - first)
+        analysis.idle = Math.max(0L, analysis.wall * analysis.workers - analysis.busy)
+
+        analysis
+    }
+
+    private static String row(Node node, int paddingSize) {
+        String path = node.task.path
+        if (path.size() > paddingSize - 1) path = '...' + path[-(paddingSize - 4)..-1]
+        (path + ' ').padRight(paddingSize, '.') +
+            '    [' + formatDuration(seconds(node.duration)) + '] ' +
+            '[' + formatDuration(seconds(node.saving)) + ']'
+    }
+
+    private static double seconds(long nanos) {
+        nanos / 1_000_000_000d
+    }
+
+    private static String formatDuration(double time) {
+        TimeUtils.formatDuration(time).padLeft(9, ' ')
+    }
+
+    @CompileStatic
+    static class Analysis {
+        final List<Node> criticalPath = []
+        long criticalLength
+        long wall
+        long busy
+        long idle
+        int workers
+
+        double getAchievedParallelism() {
+            wall > 0 ? busy / (double) wall : 0d
+        }
+
+        double getAvailableParallelism() {
+            criticalLength > 0 ? busy / (double) criticalLength : 0d
+        }
+    }
+
+    @CompileStatic
+    static class Node {
+        final Task task
+        final long duration
+        final List<Node> dependencies = []
+        final List<Node> dependents = []
+        Node predecessor
+        long head
+        long tail
+        long saving
+        boolean critical
+
+        Node(Task task) {
+            this.task = task
+            this.duration = Math.max(0L, task.afterExecuteNanos - task.beforeExecuteNanos)
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.insight.reports
+
+import groovy.json.JsonOutput
+import groovy.transform.CompileStatic
+import org.gradle.api.invocation.Gradle
+import org.gradle.api.model.ObjectFactory
+import org.gradle.api.provider.Property
+import org.kordamp.gradle.plugin.insight.InsightExtension
+import org.kordamp.gradle.plugin.insight.model.Build
+import org.kordamp.gradle.plugin.insight.model.BuildReport
+import org.kordamp.gradle.plugin.insight.model.Project
+import org.kordamp.gradle.plugin.insight.model.Task
+
+import javax.inject.Inject
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.util.concurrent.TimeUnit
+
+/**
+ * Writes the build model to files as JSON and in Chrome's trace event format.
+ * Output is streamed, entries are written as the model is traversed.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+class ExportBuildReport implements BuildReport {
+    private static final int BUILD_LANE = 0
+
+    final Property<Boolean> enabled
+    final Property<Boolean> json
+    final Property<Boolean> trace
+    final Property<File> outputDirectory
+
+    @Inject
+    ExportBuildReport(ObjectFactory objects) {
+        this.enabled = objects.property(Boolean).convention(true)
+        this.json = objects.property(Boolean).convention(true)
+        this.trace = objects.property(Boolean).convention(true)
+        this.outputDirectory = objects.property(File)
+    }
+
+    @Override
+    void report(Gradle gradle, InsightExtension extension, Build build) throws Exception {
+        File directory = outputDirectory.orNull ?:
+            new File(gradle.rootProject.layout.buildDirectory.get().asFile, 'reports/insight')
+        directory.mkdirs()
+
+        if (json.get()) {
+            write(new File(directory, 'build.json')) { Writer w -> writeJson(build, w) }
+        }
+        if (trace.get()) {
+            write(new File(directory, 'build-trace.json')) { Writer w -> writeTrace(build, w) }
+        }
+    }
+
+    private static void write(File file, Closure<?> action) {
+        Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)
+        try {
+            action.call(writer)
+        } finally {
+            writer.close()
+        }
+    }
+
+    static void writeJson(Build build, Writer w) {
+        w.write('{"rootProject":')
+        w.write(str(build.rootProjectName))
+        w.write(',"start":')
+        w.write(str(build.start?.toString()))
+        w.write(',"end":')
+        w.write(str(build.end?.toString()))
+        w.write(',"failure":')
+        w.write(String.valueOf(build.failure))
+        w.write(',"duration":')
+        w.write(String.valueOf(Math.max(0L, build.endTime - build.startTime)))
+        w.write(',"settingsEvaluated":')
+        w.write(String.valueOf(offset(build, build.settingsEvaluated)))
+        w.write(',"projectsLoaded":')
+        w.write(String.valueOf(offset(build, build.projectsLoaded)))
+        w.write(',"projectsEvaluated":')
+        w.write(String.valueOf(offset(build, build.projectsEvaluated)))
+        w.write(',"graphPopulated":')
+        w.write(String.valueOf(offset(build, build.graphPopulated)))
+        w.write(',"projects":[')
+
+        boolean firstProject = true
+        for (Project project : snapshot(build.projects.values())) {
+            if (!firstProject) w.write(',')
+            firstProject = false
+
+            w.write('{"path":')
+            w.write(str(project.path))
+            w.write(',"name":')
+            w.write(str(project.name))
+            w.write(',"state":')
+            w.write(str(project.state.name()))
+            w.write(',"evaluationStart":')
+            w.write(String.valueOf(micros(build, project.startEvaluateNanos)))
+            w.write(',"evaluationEnd":')
+            w.write(String.valueOf(micros(build, project.endEvaluateNanos)))
+            w.write(',"tasks":[')
+
+            boolean firstTask = true
+            for (Task task : snapshot(project.tasks.values())) {
+                if (!firstTask) w.write(',')
+                firstTask = false
+
+                w.write('{"path":')
+                w.write(str(task.path))
+                w.write(',"name":')
+                w.write(str(task.name))
+                w.write(',"state":')
+                w.write(str(task.state.name()))
+                w.write(',"worker":')
+                w.write(str(task.worker))
+                w.write(',"lane":')
+                w.write(String.valueOf(task.lane))
+                w.write(',"start":')
+                w.write(String.valueOf(micros(build, task.beforeExecuteNanos)))
+                w.write(',"end":')
+                w.write(String.valueOf(micros(build, task.afterExecuteNanos)))
+                w.write(',"cacheable":')
+                w.write(String.valueOf(task.cacheable))
+                w.write(',"executed":')
+                w.write(String.valueOf(task.executed))
+                w.write(',"skipped":')
+                w.write(String.valueOf(task.skipped))
+                w.write(',"upToDate":')
+                w.write(String.valueOf(task.upToDate))
+                w.write(',"didWork":')
+                w.write(String.valueOf(task.didWork))
+                w.write(',"noSource":')
+                w.write(String.valueOf(task.noSource))
+                w.write(',"fromCache":')
+                w.write(String.valueOf(task.fromCache))
+                w.write(',"failed":')
+                w.write(String.valueOf(task.failed))
+                w.write(',"dependencies":[')
+                Set<String> dependencies = build.taskDependencies.get(task.path)
+                if (dependencies) w.write(dependencies.collect { str(it) }.join(','))
+                w.write(']}')
+            }
+            w.write(']}')
+        }
+        w.write(']}')
+    }
+
+    static void writeTrace(Build build, Writer w) {
+        w.write('{"displayTimeUnit":"ms","traceEvents":[')
+
+        metadata(w, 'process_name', 0, str(build.rootProjectName ?: 'build'))
+        w.write(',')
+        metadata(w, 'thread_name', BUILD_LANE, str('build'))
+
+        // build phases and project evaluation share a lane, they run on the main thread
+        long settings = offset(build, build.settingsEvaluated) * 1000L
+        long loaded = offset(build, build.projectsLoaded) * 1000L
+        long evaluated = offset(build, build.projectsEvaluated) * 1000L
+        w.write(',')
+        span(w, 'settings', 'phase', BUILD_LANE, 0L, settings, null)
+        w.write(',')
+        span(w, 'loading', 'phase', BUILD_LANE, settings, loaded - settings, null)
+        w.write(',')
+        span(w, 'evaluation', 'phase', BUILD_LANE, loaded, evaluated - loaded, null)
+
+        for (Project project : snapshot(build.projects.values())) {
+            long start = micros(build, project.startEvaluateNanos)
+            w.write(',')
+            span(w, project.path, 'evaluation', BUILD_LANE, start,
+                micros(build, project.endEvaluateNanos) - start, null)
+        }
+
+        Set<Integer> lanes = new TreeSet<>()
+        for (Project project : snapshot(build.projects.values())) {
+            for (Task task : snapshot(project.tasks.values())) {
+                if (lanes.add(task.lane)) {
+                    w.write(',')
+                    metadata(w, 'thread_name', task.lane + 1, str(task.worker ?: "lane ${task.lane}".toString()))
+                }
+                long start = micros(build, task.beforeExecuteNanos)
+                w.write(',')
+                span(w, task.path, 'task', task.lane + 1, start, micros(build, task.afterExecuteNanos) - start,
+                    '{"state":' + str(task.state.name()) +
+                        ',"upToDate":' + task.upToDate +
+                        ',"fromCache":' + task.fromCache +
+                        ',"cacheable":' + task.cacheable + '}')
+            }
+        }
+
+        w.write(']}')
+    }
+
+    private static void metadata(Writer w, String name, int tid, String value) {
+        w.write('{"name":"')
+        w.write(name)
+        w.write('","ph":"M","pid":1,"tid":')
+        w.write(String.valueOf(tid))
+        w.write(',"args":{"name":')
+        w.write(value)
+        w.write('}}')
+    }
+
+    private static void span(Writer w, String name, String category, int tid, long start, long duration, String args) {
+        w.write('{"name":')
+        w.write(str(name))
+        w.write(',"cat":"')
+        w.write(category)
+        w.write('","ph":"X","pid":1,"tid":')
+        w.write(String.valueOf(tid))
+        w.write(',"ts":')
+        w.write(String.valueOf(start))
+        w.write(',"dur":')
+        w.write(String.valueOf(Math.max(0L, duration)))
+        if (args) {
+            w.write(',"args":')
+            w.write(args)
+        }
+        w.write('}')
+    }
+
+    // copying relies on toArray(), which synchronized collections guard
+    private static <T> List<T> snapshot(Collection<T> values) {
+        new ArrayList<T>(values)
+    }
+
+    private static String str(String s) {
+        s == null ? 'null' : JsonOutput.toJson(s)
+    }
+
+    // millis since the start of the build
+    private static long offset(Build build, long millis) {
+        millis > 0L ? Math.max(0L, millis - build.startTime) : 0L
+    }
+
+    // micros since the start of the build
+    private static long micros(Build build, long nanos) {
+        TimeUnit.NANOSECONDS.toMicros(Math.max(0L, nanos - build.startNanos))
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.insight.reports
+
+import groovy.transform.CompileStatic
+import org.gradle.api.invocation.Gradle
+import org.gradle.api.model.ObjectFactory
+import org.gradle.api.provider.Property
+import org.kordamp.gradle.listener.ListenerTimings
+import org.kordamp.gradle.plugin.insight.InsightExtension
+import org.kordamp.gradle.plugin.insight.internal.InsightExtensionImpl
+import org.kordamp.gradle.plugin.insight.model.Build
+import org.kordamp.gradle.plugin.insight.model.BuildReport
+import org.kordamp.gradle.util.TimeUtils
+
+import javax.inject.Inject
+
+/**
+ * Displays the time spent in Kordamp configuration listeners, by listener class and by project.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+class ListenerBuildReport implements BuildReport {
+    final Property<Boolean> enabled
+    final Property<Integer> maxNameSize
+    final Property<Integer> maxEntries
+    final Property<Double> timeThreshold
+
+    @Inject
+    ListenerBuildReport(ObjectFactory objects) {
+        this.enabled = objects.property(Boolean).convention(true)
+        this.maxNameSize = objects.property(Integer).convention(64)
+        this.maxEntries = objects.property(Integer).convention(10)
+        this.timeThreshold = objects.property(Double).convention(0.5d)
+    }
+
+    @Override
+    void report(Gradle gradle, InsightExtension extension, Build build) throws Exception {
+        ListenerTimings timings = build.listenerTimings
+        if (!timings || timings.empty) return
+
+        InsightExtensionImpl x = (InsightExtensionImpl) extension
+        int paddingSize = Math.max(13, maxNameSize.get())
+        String header = '             TIME         MAX   CNT'
+        String separator = '-' * (paddingSize + header.size())
+
+        println('\n' + separator)
+        println('LISTENERS'.padRight(paddingSize) + header)
+        println(separator)
+        printTable(x, timings.byListener, paddingSize)
+        println(separator)
+        println('PROJECTS'.padRight(paddingSize) + header)
+        println(separator)
+        printTable(x, timings.byProject, paddingSize)
+        println(separator)
+    }
+
+    private void printTable(InsightExtensionImpl x, Map<String, ListenerTimings.Stats> table, int paddingSize) {
+        int count = 0
+        for (Map.Entry<String, ListenerTimings.Stats> e : table.entrySet()) {
+            if (count++ >= maxEntries.get()) break
+
+            String name = e.key
+            if (name.size() > paddingSize - 1) name = '...' + name[-(paddingSize - 4)..-1]
+            String duration = formatDuration(e.value.duration)
+            if (timeThreshold.get() < e.value.duration) {
+                duration = x.colors.failure(duration)
+            }
+            println((name + ' ').padRight(paddingSize, '.') +
+                '    [' + duration + '] ' +
+                '[' + formatDuration(e.value.max / 1_000_000_000d) + '] ' +
+                String.valueOf(e.value.count).padLeft(5, ' '))
+        }
+    }
+
+    private static String formatDuration(double time) {
+        TimeUtils.formatDuration(time).padLeft(9, ' ')
+    }
+}
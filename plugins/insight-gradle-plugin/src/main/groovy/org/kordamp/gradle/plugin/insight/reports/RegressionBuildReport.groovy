@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.insight.reports
+
+import groovy.transform.CompileStatic
+import org.gradle.api.invocation.Gradle
+import org.gradle.api.model.ObjectFactory
+import org.gradle.api.provider.Property
+import org.kordamp.gradle.plugin.insight.InsightExtension
+import org.kordamp.gradle.plugin.insight.internal.BuildHistory
+import org.kordamp.gradle.plugin.insight.internal.BuildHistory.BuildRecord
+import org.kordamp.gradle.plugin.insight.internal.BuildHistory.TaskRecord
+import org.kordamp.gradle.plugin.insight.internal.InsightExtensionImpl
+import org.kordamp.gradle.plugin.insight.model.Build
+import org.kordamp.gradle.plugin.insight.model.BuildReport
+import org.kordamp.gradle.util.TimeUtils
+
+import javax.inject.Inject
+
+/**
+ * Records every build in a local history store and flags configuration time, task durations
+ * and cache hit rates that regressed relative to a rolling baseline of previous builds.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+class RegressionBuildReport implements BuildReport {
+    final Property<Boolean> enabled
+    final Property<String> storage
+    final Property<Integer> maxBuilds
+    final Property<Integer> baselineSize
+    final Property<Double> durationThreshold
+    final Property<Double> minDuration
+    final Property<Double> cacheHitThreshold
+    final Property<Integer> maxTaskPathSize
+    final Property<Integer> maxTasks
+
+    @Inject
+    RegressionBuildReport(ObjectFactory objects) {
+        this.enabled = objects.property(Boolean).convention(true)
+        this.storage = objects.property(String).convention('project')
+        this.maxBuilds = objects.property(Integer).convention(100)
+        this.baselineSize = objects.property(Integer).convention(10)
+        this.durationThreshold = objects.property(Double).convention(0.25d)
+        this.minDuration = objects.property(Double).convention(0.5d)
+        this.cacheHitThreshold = objects.property(Double).convention(0.25d)
+        this.maxTaskPathSize = objects.property(Integer).convention(48)
+        this.maxTasks = objects.property(Integer).convention(20)
+    }
+
+    @Override
+    void report(Gradle gradle, InsightExtension extension, Build build) throws Exception {
+        BuildHistory history = new BuildHistory(resolveHistoryFile(gradle, build), maxBuilds.get())
+        BuildRecord current = BuildRecord.of(build)
+
+        List<BuildRecord> baseline = history.read().findAll { !it.failure }
+        if (baseline.size() > baselineSize.get()) {
+            baseline = baseline.subList(baseline.size() - baselineSize.get(), baseline.size())
+        }
+        history.append(current)
+
+        if (!baseline || current.failure) return
+
+        InsightExtensionImpl x = (InsightExtensionImpl) extension
+        int paddingSize = Math.max(13, maxTaskPathSize.get())
+        String header = '             BASELINE     CURRENT'
+        String separator = '-' * (paddingSize + header.size())
+        List<String> rows = []
+
+        long configuration = median(baseline.collect { it.configuration })
+        if (isSlower(current.configuration / 1000d, configuration / 1000d)) {
+            rows << row('configuration', paddingSize,
+                formatDuration(configuration / 1000d), x.colors.failure(formatDuration(current.configuration / 1000d)))
+        }
+
+        List<Regression> regressions = []
+        for (Map.Entry<String, Long> project : current.projects.entrySet()) {
+            List<Long> samples = []
+            for (BuildRecord record : baseline) {
+                Long sample = record.projects.get(project.key)
+                if (sample != null) samples << sample
+            }
+            if (!samples) continue
+
+            double expected = median(samples) / 1_000_000_000d
+            double actual = project.value / 1_000_000_000d
+            if (isSlower(actual, expected)) {
+                regressions << new Regression(project.key + ' (conf)', actual - expected,
+                    formatDuration(expected), x.colors.failure(formatDuration(actual)))
+            }
+        }
+
+        for (TaskRecord task : current.tasks.values()) {
+            List<TaskRecord> samples = []
+            for (BuildRecord record : baseline) {
+                TaskRecord sample = record.tasks.get(task.path)
+                if (sample) samples << sample
+            }
+            if (!samples) continue
+
+            if (task.worked) {
+                List<TaskRecord> worked = samples.findAll { it.worked }
+                if (worked) {
+                    double expected = median(worked.collect { it.duration }) / 1_000_000_000d
+                    double actual = task.duration / 1_000_000_000d
+                    if (isSlower(actual, expected)) {
+                        regressions << new Regression(task.path, actual - expected,
+                            formatDuration(expected), x.colors.failure(formatDuration(actual)))
+                    }
+                }
+            }
+
+            if (task.cacheable && !task.fromCache && !task.upToDate && task.fingerprint != 0L) {
+                // a miss is only a regression when the same inputs hit before, changed inputs
+                // are accounted for by the overall cache hit rate
+                List<TaskRecord> same = samples.findAll { it.fingerprint == task.fingerprint }
+                double hitRate = same ? same.count { it.fromCache || it.upToDate } / (double) same.size() : 0d
+                if (hitRate > 0d) {
+                    regressions << new Regression(task.path, task.duration / 1_000_000_000d,
+                        formatRate(hitRate), x.colors.failure(formatRate(0d)))
+                }
+            }
+        }
+
+        double expectedHits = median(baseline.collect { (long) (cacheHitRate(it) * 1000d) }) / 1000d
+        double actualHits = cacheHitRate(current)
+        if (expectedHits - actualHits >= cacheHitThreshold.get()) {
+            rows << row('cache hit rate', paddingSize, formatRate(expectedHits), x.colors.failure(formatRate(actualHits)))
+        }
+
+        regressions.sort { Regression a, Regression b -> Double.compare(b.cost, a.cost) }
+        for (Regression regression : regressions.take(maxTasks.get())) {
+            rows << row(regression.path, paddingSize, regression.expected, regression.actual)
+        }
+        if (!rows) return
+
+        println('\n' + separator)
+        println("REGRESSIONS (${baseline.size()} builds)".padRight(paddingSize) + header)
+        println(separator)
+        rows.each { println(it) }
+        println(separator)
+    }
+
+    private File resolveHistoryFile(Gradle gradle, Build build) {
+        File rootDir = gradle.rootProject.projectDir
+        if ('user'.equalsIgnoreCase(storage.get())) {
+            String id = build.rootProjectName + '-' + Integer.toHexString(rootDir.absolutePath.hashCode())
+            return new File([gradle.gradleUserHomeDir.absolutePath,
+                             'caches',
+                             'kordamp',
+                             'insight',
+                             id + '.bin'].join(File.separator))
+        }
+        new File([rootDir.absolutePath,
+                  '.gradle',
+                  'insight',
+                  'history.bin'].join(File.separator))
+    }
+
+    private boolean isSlower(double actual, double expected) {
+        actual - expected >= minDuration.get() && actual > expected * (1d + durationThreshold.get())
+    }
+
+    private static double cacheHitRate(BuildRecord record) {
+        int cacheable = 0
+        int hits = 0
+        for (TaskRecord task : record.tasks.values()) {
+            if (!task.cacheable) continue
+            cacheable++
+            if (task.fromCache || task.upToDate) hits++
+        }
+        cacheable > 0 ? hits / (double) cacheable : 0d
+    }
+
+    private static long median(List<Long> values) {
+        if (!values) return 0L
+        List<Long> sorted = new ArrayList<>(values).sort()
+        sorted.get(Math.floorDiv(sorted.size(), 2))
+    }
+
+    private static String row(String label, int paddingSize, String expected, String actual) {
+        if (label.size() > paddingSize - 1) label = '...' + label[-(paddingSize - 4)..-1]
+        (label + ' ').padRight(paddingSize, '.') + '    [' + expected + ']  [' + actual + ']'
+    }
+
+    private static String formatDuration(double time) {
+        TimeUtils.formatDuration(time).padLeft(9, ' ')
+    }
+
+    private static String formatRate(double rate) {
+        String.format(Locale.ROOT, '%.0f %%', rate * 100d).padLeft(9, ' ')
+    }
+
+    @CompileStatic
+    private static class Regression {
+        final String path
+        final double cost
+        final String expected
+        final String actual
+
+        Regression(String path, double cost, String expected, String actual) {
+            this.path = path
+            this.cost = cost
+            this.expected = expected
+            this.actual = actual
+        }
+    }
+}
@@ -139,6 +139,31 @@ class SummaryBuildReport implements BuildReport {
             println("${projectExecutedCount} projects executed")
             println(separator)
         }
+
+        if ('long'.equalsIgnoreCase(format.get())) {
+            reportWorkerLanes(build, paddingSize, separator)
+        }
+    }
+
+    private static void reportWorkerLanes(Build build, int paddingSize, String separator) {
+        Map<Integer, List<Task>> lanes = build.lanes
+        if (lanes.size() < 2) return
+
+        println('WORKER'.padRight(paddingSize) + '             BUSY   TOT')
+        println(separator)
+        for (Map.Entry<Integer, List<Task>> lane : lanes.entrySet()) {
+            double busy = 0d
+            for (Task task : lane.value) {
+                busy += task.execDuration
+            }
+            String name = lane.value[0].worker ?: "lane ${lane.key}".toString()
+            println((name + ' ').padRight(paddingSize, '.') +
+                '     [' + formatDuration(busy) + '] ' +
+                String.valueOf(lane.value.size()).padLeft(3, ' '))
+        }
+        println(separator)
+        println(String.format(Locale.ROOT, '%d workers, %.2fx parallelism', lanes.size(), build.parallelism))
+        println(separator)
     }
 
     private static String formatDuration(double time) {
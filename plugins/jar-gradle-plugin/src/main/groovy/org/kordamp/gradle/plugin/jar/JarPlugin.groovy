@@ -22,6 +22,10 @@ import groovy.transform.CompileStatic
 import org.gradle.api.Project
 import org.gradle.api.Task
 import org.gradle.api.artifacts.Configuration
+import org.gradle.api.artifacts.ModuleVersionIdentifier
+import org.gradle.api.artifacts.component.ComponentIdentifier
+import org.gradle.api.artifacts.result.ResolvedArtifactResult
+import org.gradle.api.artifacts.result.ResolvedComponentResult
 import org.gradle.api.tasks.bundling.Jar
 import org.kordamp.gradle.annotations.DependsOn
 import org.kordamp.gradle.listener.AllProjectsEvaluatedListener
@@ -269,23 +273,36 @@ class JarPlugin extends AbstractKordampPlugin {
             inputs.files(jar.project.configurations.runtimeClasspath)
 
             doFirst {
-                Set<String> classpath = []
-                String p = isNotBlank(prefix) && !prefix.endsWith('/') ? prefix + '/' : prefix
+                String p = isNotBlank(prefix) && !prefix.endsWith('/') ? prefix + '/' : (prefix ?: '')
 
-                Configuration rc = jar.project.configurations.runtimeClasspath
-                rc.incoming.resolutionResult.allComponents.each {
-                    String g = it.moduleVersion.id.group.replace('.', '/')
-                    String a = it.moduleVersion.id.name
-                    String v = it.moduleVersion.version
-                    File f = rc.files.find { it.name.startsWith("${a}-${v}".toString()) }
-                    if (f) classpath << "${p}${g}/${a}/${v}/$f.name".toString()
-                }
+                String classpath = resolveRepositoryClasspath(jar.project.configurations.runtimeClasspath, p)
                 if (classpath) {
                     manifest {
-                        attributes('Class-Path': classpath.join(' '))
+                        attributes('Class-Path': classpath)
                     }
                 }
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Computes the {@code Class-Path} entries of all artifacts in the given configuration,
+     * walking the resolution result and its artifacts once each.
+     */
+    private static String resolveRepositoryClasspath(Configuration rc, String prefix) {
+        Map<ComponentIdentifier, ModuleVersionIdentifier> modules = [:]
+        for (ResolvedComponentResult component : rc.incoming.resolutionResult.allComponents) {
+            if (component.moduleVersion) modules.put(component.id, component.moduleVersion)
+        }
+
+        Set<String> classpath = new LinkedHashSet<>()
+        for (ResolvedArtifactResult artifact : rc.incoming.artifacts.artifacts) {
+            ModuleVersionIdentifier module = modules.get(artifact.id.componentIdentifier)
+            if (!module) continue
+            String g = module.group.replace('.', '/')
+            classpath << "${prefix}${g}/${module.name}/${module.version}/${artifact.file.name}".toString()
+        }
+
+        classpath.join(' ')
+    }
+}
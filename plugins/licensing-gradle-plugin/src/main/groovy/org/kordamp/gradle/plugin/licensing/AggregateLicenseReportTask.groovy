@@ -18,10 +18,7 @@
 package org.kordamp.gradle.plugin.licensing
 
 import groovy.json.JsonOutput
-import groovy.transform.Canonical
 import groovy.transform.CompileStatic
-import groovy.xml.MarkupBuilder
-import groovy.xml.StreamingMarkupBuilder
 import groovy.xml.XmlUtil
 import nl.javadude.gradle.plugins.license.DownloadLicensesExtension
 import org.gradle.api.DefaultTask
@@ -30,66 +27,29 @@ import org.gradle.api.tasks.Optional
 import org.gradle.api.tasks.OutputDirectory
 import org.gradle.api.tasks.TaskAction
 
+import javax.xml.stream.XMLInputFactory
+import javax.xml.stream.XMLStreamConstants
+import javax.xml.stream.XMLStreamReader
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+import static org.kordamp.gradle.util.StringUtils.isNotBlank
+
 /**
+ * Aggregates the license reports of all subprojects. Reports are read with StAX into compact
+ * records, in parallel, and every output format is written in a single pass over the results.
+ *
  * @author Andres Almiray
  * @since 0.5.0
  */
 @CacheableTask
 class AggregateLicenseReportTask extends DefaultTask {
-    @Optional @OutputDirectory File reportDir
-
-    AggregateLicenseReportTask() {
-        reportDir = project.file("${project.reporting.baseDir.path}/license")
-    }
-
-    @TaskAction
-    void computeAggregate() {
-        computeAggregateByDependency()
-        computeAggregateByLicense()
-    }
-
-    private void computeAggregateByDependency() {
-        Map<String, Object> allDependencies = [:]
-
-        project.subprojects.each { project ->
-            DownloadLicensesExtension extension = project.extensions.findByType(DownloadLicensesExtension)
-            File file = project.file("${extension.report.xml.destination}/${extension.reportByDependencyFileName}.xml")
-            if (!file.exists()) {
-                return
-            }
-
-            new XmlSlurper().parse(file).dependency.each { dep ->
-                allDependencies[dep.@name.text()] = dep
-            }
-        }
-
-        allDependencies = allDependencies.sort({ it.value.file.text() })
-
-        File reportFile = project.file("${reportDir}/aggregate-dependency-license.xml")
-        reportFile.parentFile.mkdirs()
-        reportFile.text = XmlUtil.serialize(new StreamingMarkupBuilder().bind {
-            dependencies {
-                allDependencies.each { name, dep ->
-                    dependency(name: dep.@name) {
-                        file(dep.file.text())
-                        dep.license.sort().each { lic ->
-                            license(name: lic.@name, url: lic.@url)
-                        }
-                    }
-                }
-            }
-        })
-
-        reportFile = project.file("${reportDir}/aggregate-dependency-license.html")
-        reportFile.withPrintWriter { writer ->
-            MarkupBuilder html = new MarkupBuilder(writer)
+    static final String ORG_KORDAMP_GRADLE_LICENSING_THREADS = 'org.kordamp.gradle.licensing.threads'
 
-            html.html {
-                head {
-                    title("HTML License report")
-                }
-                style(
-                        '''table {
+    private static final String DEPENDENCY_STYLE = '''table {
                   width: 85%;
                   border-collapse: collapse;
                   text-align: center;
@@ -119,95 +79,9 @@ class AggregateLicenseReportTask extends DefaultTask {
                 .licenseName {
                     width:15%
                 }
-                ''')
-                body {
-                    table(align: 'center') {
-                        tr {
-                            th() { h3("Dependency") }
-                            th() { h3("Jar") }
-                            th() { h3("License name") }
-                            th() { h3("License text URL") }
-                        }
-
-                        allDependencies.each { name, dep ->
-                            dep.license.sort().each { lic ->
-                                tr {
-                                    td(dep.@name, class: 'dependencies')
-                                    td(dep.file.text(), class: 'licenseName')
-                                    td(lic.@name, class: 'licenseName')
-                                    td(class: 'license') {
-                                        if (lic.@url) {
-                                            a(href: lic.@url, "Show license agreement")
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        reportFile = project.file("${reportDir}/aggregate-dependency-license.json")
-        reportFile.text = JsonOutput.toJson([dependencies: allDependencies.values().collect([]) { dep ->
-            [
-                    name    : String.valueOf(dep.@name),
-                    file    : String.valueOf(dep.file.text()),
-                    licenses: dep.license.sort().collect([]) { lic ->
-                        [
-                                name: String.valueOf(lic.@name),
-                                url : String.valueOf(lic.@url)
-                        ]
-                    }
-            ]
-        }])
-    }
-
-    private void computeAggregateByLicense() {
-        Map<String, License> allLicenses = [:]
-
-        project.subprojects.each { project ->
-            DownloadLicensesExtension extension = project.extensions.findByType(DownloadLicensesExtension)
-            File file = project.file("${extension.report.xml.destination}/${extension.reportByLicenseFileName}.xml")
-            if (!file.exists()) {
-                return
-            }
+                '''
 
-            new XmlSlurper().parse(file).license.each { lic ->
-                String key = lic.@name.text()
-                License license = allLicenses[key]
-                if (!license) {
-                    license = new License(lic.@name.text(), lic.@url.text())
-                    allLicenses.put(key, license)
-                }
-                license.artifacts.addAll(lic.dependency*.text())
-            }
-        }
-
-        allLicenses = allLicenses.sort({ it.key })
-
-        File reportFile = project.file("${reportDir}/aggregate-license-dependency.xml")
-        reportFile.parentFile.mkdirs()
-        reportFile.text = XmlUtil.serialize(new StreamingMarkupBuilder().bind {
-            licenses {
-                allLicenses.each { name, lic ->
-                    license(name: lic.name, url: lic.url) {
-                        lic.artifacts.sort().each { artifact -> dependency(artifact) }
-                    }
-                }
-            }
-        })
-
-        reportFile = project.file("${reportDir}/aggregate-license-dependency.html")
-        reportFile.withPrintWriter { writer ->
-            MarkupBuilder html = new MarkupBuilder(writer)
-
-            html.html {
-                head {
-                    title("HTML License report")
-                }
-                style(
-                        '''table {
+    private static final String LICENSE_STYLE = '''table {
                   width: 85%;
                   border-collapse: collapse;
                   text-align: center;
@@ -244,55 +118,348 @@ class AggregateLicenseReportTask extends DefaultTask {
                 .licenseName {
                     width:15%
                 }
-                ''')
-                body {
-                    table(align: 'center') {
-                        tr {
-                            th() { h3("License") }
-                            th() { h3("License text URL") }
-                            th() { h3("Dependency") }
+                '''
+
+    @Optional @OutputDirectory File reportDir
+
+    AggregateLicenseReportTask() {
+        reportDir = project.file("${project.reporting.baseDir.path}/license")
+    }
+
+    @TaskAction
+    void computeAggregate() {
+        List<File[]> reports = []
+        project.subprojects.each { project ->
+            DownloadLicensesExtension extension = project.extensions.findByType(DownloadLicensesExtension)
+            if (!extension) return
+            reports << ([
+                project.file("${extension.report.xml.destination}/${extension.reportByDependencyFileName}.xml"),
+                project.file("${extension.report.xml.destination}/${extension.reportByLicenseFileName}.xml")
+            ] as File[])
+        }
+
+        List<ProjectReport> parsed = readReports(reports, resolveThreads())
+        reportDir.mkdirs()
+        writeAggregateByDependency(reportDir, parsed)
+        writeAggregateByLicense(reportDir, parsed)
+    }
+
+    @CompileStatic
+    private static List<ProjectReport> readReports(List<File[]> reports, int maxThreads) {
+        List<Callable<ProjectReport>> tasks = []
+        for (File[] files : reports) {
+            File byDependency = files[0]
+            File byLicense = files[1]
+            tasks << (Callable<ProjectReport>) new Callable<ProjectReport>() {
+                @Override
+                ProjectReport call() throws Exception {
+                    ProjectReport report = new ProjectReport()
+                    if (byDependency.exists()) readDependencies(byDependency, report.dependencies)
+                    if (byLicense.exists()) readLicenses(byLicense, report.licenses)
+                    report
+                }
+            }
+        }
+
+        List<ProjectReport> results = []
+        int threads = Math.min(maxThreads, tasks.size())
+        if (threads < 2) {
+            for (Callable<ProjectReport> task : tasks) results << task.call()
+            return results
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads)
+        try {
+            // results are kept in project order, later projects override earlier ones
+            for (Future<ProjectReport> future : pool.invokeAll(tasks)) {
+                try {
+                    results << future.get()
+                } catch (ExecutionException e) {
+                    throw e.cause
+                }
+            }
+        } finally {
+            pool.shutdownNow()
+        }
+        results
+    }
+
+    @CompileStatic
+    private static void writeAggregateByDependency(File reportDir, List<ProjectReport> reports) {
+        Map<String, Dependency> merged = [:]
+        Map<String, LicenseRef> refs = [:]
+        for (ProjectReport report : reports) {
+            for (Dependency dependency : report.dependencies) {
+                // share license records between dependencies
+                dependency.licenses.sort(true, LicenseRef.ORDER)
+                for (int i = 0; i < dependency.licenses.size(); i++) {
+                    LicenseRef ref = dependency.licenses.get(i)
+                    LicenseRef shared = refs.putIfAbsent(ref.name + '\u0000' + ref.url, ref)
+                    if (shared) dependency.licenses.set(i, shared)
+                }
+                merged.put(dependency.name, dependency)
+            }
+        }
+
+        List<Dependency> dependencies = new ArrayList<>(merged.values())
+        dependencies.sort { Dependency a, Dependency b -> a.file <=> b.file }
+
+        new File(reportDir, 'aggregate-dependency-license.xml').withWriter('UTF-8') { Writer xml ->
+            new File(reportDir, 'aggregate-dependency-license.html').withWriter('UTF-8') { Writer html ->
+                new File(reportDir, 'aggregate-dependency-license.json').withWriter('UTF-8') { Writer json ->
+                    xml.write('<?xml version="1.0" encoding="UTF-8"?>\n<dependencies>\n')
+                    writeHtmlHeader(html, DEPENDENCY_STYLE, ['Dependency', 'Jar', 'License name', 'License text URL'])
+                    json.write('{"dependencies":[')
+
+                    boolean first = true
+                    for (Dependency dep : dependencies) {
+                        xml.write("  <dependency name=\"${escape(dep.name)}\">\n")
+                        xml.write("    <file>${escape(dep.file)}</file>\n")
+                        for (LicenseRef lic : dep.licenses) {
+                            xml.write("    <license name=\"${escape(lic.name)}\" url=\"${escape(lic.url)}\" />\n")
+
+                            html.write('      <tr>\n')
+                            html.write("        <td class='dependencies'>${escape(dep.name)}</td>\n")
+                            html.write("        <td class='licenseName'>${escape(dep.file)}</td>\n")
+                            html.write("        <td class='licenseName'>${escape(lic.name)}</td>\n")
+                            writeHtmlLink(html, lic.url, 'Show license agreement')
+                            html.write('      </tr>\n')
+                        }
+                        xml.write('  </dependency>\n')
+
+                        if (!first) json.write(',')
+                        first = false
+                        json.write("{\"name\":${JsonOutput.toJson(dep.name)},\"file\":${JsonOutput.toJson(dep.file)},\"licenses\":[")
+                        json.write(dep.licenses.collect { LicenseRef lic ->
+                            "{\"name\":${JsonOutput.toJson(lic.name)},\"url\":${JsonOutput.toJson(lic.url)}}".toString()
+                        }.join(','))
+                        json.write(']}')
+                    }
+
+                    xml.write('</dependencies>\n')
+                    writeHtmlFooter(html)
+                    json.write(']}')
+                }
+            }
+        }
+    }
+
+    @CompileStatic
+    private static void writeAggregateByLicense(File reportDir, List<ProjectReport> reports) {
+        Map<String, License> merged = new TreeMap<>()
+        for (ProjectReport report : reports) {
+            for (License license : report.licenses) {
+                License existing = merged.get(license.name)
+                if (existing) {
+                    existing.artifacts.addAll(license.artifacts)
+                } else {
+                    merged.put(license.name, license)
+                }
+            }
+        }
+
+        new File(reportDir, 'aggregate-license-dependency.xml').withWriter('UTF-8') { Writer xml ->
+            new File(reportDir, 'aggregate-license-dependency.html').withWriter('UTF-8') { Writer html ->
+                new File(reportDir, 'aggregate-license-dependency.json').withWriter('UTF-8') { Writer json ->
+                    xml.write('<?xml version="1.0" encoding="UTF-8"?>\n<licenses>\n')
+                    writeHtmlHeader(html, LICENSE_STYLE, ['License', 'License text URL', 'Dependency'])
+                    json.write('{"licences":[')
+
+                    boolean first = true
+                    for (License lic : merged.values()) {
+                        xml.write("  <license name=\"${escape(lic.name)}\" url=\"${escape(lic.url)}\">\n")
+                        for (String artifact : lic.artifacts) {
+                            xml.write("    <dependency>${escape(artifact)}</dependency>\n")
                         }
+                        xml.write('  </license>\n')
 
-                        allLicenses.each { name, lic ->
-                            tr {
-                                td(lic.name, class: 'licenseName')
-                                td(class: 'license') {
-                                    if (lic.url) {
-                                        a(href: lic.url, "License agreement")
-                                    }
-                                }
-                                td(class: "dependencies") {
-                                    ul() {
-                                        lic.artifacts.sort().each {
-                                            dependency ->
-                                                li(dependency)
-                                        }
-                                    }
-                                }
-                            }
+                        html.write('      <tr>\n')
+                        html.write("        <td class='licenseName'>${escape(lic.name)}</td>\n")
+                        writeHtmlLink(html, lic.url, 'License agreement')
+                        html.write("        <td class='dependencies'>\n          <ul>\n")
+                        for (String artifact : lic.artifacts) {
+                            html.write("            <li>${escape(artifact)}</li>\n")
                         }
+                        html.write('          </ul>\n        </td>\n')
+                        html.write('      </tr>\n')
+
+                        if (!first) json.write(',')
+                        first = false
+                        json.write("{\"name\":${JsonOutput.toJson(lic.name)},\"url\":${JsonOutput.toJson(lic.url)},\"dependencies\":[")
+                        json.write(lic.artifacts.collect { String artifact -> JsonOutput.toJson(artifact) }.join(','))
+                        json.write(']}')
                     }
+
+                    xml.write('</licenses>\n')
+                    writeHtmlFooter(html)
+                    json.write(']}')
                 }
             }
         }
+    }
+
+    @CompileStatic
+    private static void writeHtmlHeader(Writer html, String style, List<String> headers) {
+        html.write('<html>\n  <head>\n    <title>HTML License report</title>\n  </head>\n')
+        html.write("  <style>${style}</style>\n")
+        html.write("  <body>\n    <table align='center'>\n      <tr>\n")
+        for (String header : headers) {
+            html.write("        <th>\n          <h3>${header}</h3>\n        </th>\n")
+        }
+        html.write('      </tr>\n')
+    }
 
-        reportFile = project.file("${reportDir}/aggregate-license-dependency.json")
-        reportFile.text = JsonOutput.toJson([licences: allLicenses.values().collect([]) { lic ->
-            [
-                    name        : String.valueOf(lic.@name),
-                    url         : String.valueOf(lic.@url),
-                    dependencies: lic.artifacts.sort().collect([]) { artifact ->
-                        String.valueOf(artifact)
+    @CompileStatic
+    private static void writeHtmlLink(Writer html, String url, String text) {
+        if (url) {
+            html.write("        <td class='license'>\n          <a href='${escape(url)}'>${text}</a>\n        </td>\n")
+        } else {
+            html.write("        <td class='license' />\n")
+        }
+    }
+
+    @CompileStatic
+    private static void writeHtmlFooter(Writer html) {
+        html.write('    </table>\n  </body>\n</html>')
+    }
+
+    @CompileStatic
+    private static String escape(String s) {
+        XmlUtil.escapeXml(s)
+    }
+
+    @CompileStatic
+    private static void readDependencies(File file, List<Dependency> dependencies) {
+        Map<String, String> strings = [:]
+        parse(file) { XMLStreamReader reader ->
+            Dependency dependency = null
+            while (reader.hasNext()) {
+                int event = reader.next()
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.localName) {
+                        case 'dependency':
+                            dependency = new Dependency(attribute(reader, 'name', strings))
+                            break
+                        case 'file':
+                            if (dependency) dependency.file = reader.elementText
+                            break
+                        case 'license':
+                            if (dependency) dependency.licenses << new LicenseRef(attribute(reader, 'name', strings), attribute(reader, 'url', strings))
+                            break
                     }
-            ]
-        }])
+                } else if (event == XMLStreamConstants.END_ELEMENT && reader.localName == 'dependency') {
+                    dependencies << dependency
+                    dependency = null
+                }
+            }
+        }
+    }
+
+    @CompileStatic
+    private static void readLicenses(File file, List<License> licenses) {
+        Map<String, String> strings = [:]
+        parse(file) { XMLStreamReader reader ->
+            License license = null
+            while (reader.hasNext()) {
+                int event = reader.next()
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.localName) {
+                        case 'license':
+                            license = new License(attribute(reader, 'name', strings), attribute(reader, 'url', strings))
+                            break
+                        case 'dependency':
+                            if (license) license.artifacts << reader.elementText
+                            break
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && reader.localName == 'license') {
+                    licenses << license
+                    license = null
+                }
+            }
+        }
+    }
+
+    @CompileStatic
+    private static void parse(File file, Closure<?> consumer) {
+        XMLInputFactory factory = XMLInputFactory.newInstance()
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false)
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false)
+
+        file.withInputStream { InputStream input ->
+            XMLStreamReader reader = factory.createXMLStreamReader(new BufferedInputStream(input))
+            try {
+                consumer.call(reader)
+            } finally {
+                reader.close()
+            }
+        }
+    }
+
+    @CompileStatic
+    private static String attribute(XMLStreamReader reader, String name, Map<String, String> strings) {
+        String value = reader.getAttributeValue(null, name) ?: ''
+        String shared = strings.putIfAbsent(value, value)
+        shared != null ? shared : value
+    }
+
+    @CompileStatic
+    private int resolveThreads() {
+        String threads = System.getProperty(ORG_KORDAMP_GRADLE_LICENSING_THREADS)
+        if (isNotBlank(threads)) {
+            try {
+                return Math.max(1, Integer.parseInt(threads.trim()))
+            } catch (NumberFormatException ignored) {
+                logger.warn("Invalid value '{}' for {}, using the default number of threads", threads, ORG_KORDAMP_GRADLE_LICENSING_THREADS)
+            }
+        }
+        Runtime.runtime.availableProcessors()
+    }
+
+    @CompileStatic
+    private static class ProjectReport {
+        final List<Dependency> dependencies = []
+        final List<License> licenses = []
+    }
+
+    @CompileStatic
+    private static class Dependency {
+        final String name
+        String file = ''
+        final List<LicenseRef> licenses = []
+
+        Dependency(String name) {
+            this.name = name
+        }
+    }
+
+    @CompileStatic
+    private static class LicenseRef {
+        static final Comparator<LicenseRef> ORDER = new Comparator<LicenseRef>() {
+            @Override
+            int compare(LicenseRef a, LicenseRef b) {
+                int c = a.name <=> b.name
+                c != 0 ? c : a.url <=> b.url
+            }
+        }
+
+        final String name
+        final String url
+
+        LicenseRef(String name, String url) {
+            this.name = name
+            this.url = url
+        }
     }
 
-    @Canonical
     @CompileStatic
     private static class License {
         final String name
         final String url
-        final Set<String> artifacts = new LinkedHashSet<>()
+        final Set<String> artifacts = new TreeSet<>()
+
+        License(String name, String url) {
+            this.name = name
+            this.url = url
+        }
     }
 }
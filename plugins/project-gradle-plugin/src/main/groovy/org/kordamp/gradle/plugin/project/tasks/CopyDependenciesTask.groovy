@@ -17,7 +17,6 @@
  */
 package org.kordamp.gradle.plugin.project.tasks
 
-import groovy.transform.CompileDynamic
 import groovy.transform.CompileStatic
 import org.apache.commons.lang3.StringUtils
 import org.apache.maven.artifact.versioning.ArtifactVersion
@@ -47,8 +46,17 @@ import org.kordamp.gradle.property.SimpleListState
 import org.kordamp.gradle.property.SimpleStringState
 import org.kordamp.gradle.property.StringState
 
+import java.nio.file.FileSystemException
 import java.nio.file.Files
-
+import java.nio.file.Path
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.atomic.AtomicInteger
+
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING
 import static java.util.Objects.requireNonNull
 import static org.apache.maven.artifact.versioning.VersionRange.createFromVersionSpec
@@ -61,15 +69,19 @@ import static org.kordamp.gradle.util.StringUtils.isNotBlank
  */
 @CompileStatic
 class CopyDependenciesTask extends DefaultTask {
+    static final String ORG_KORDAMP_GRADLE_COPY_DEPENDENCIES_THREADS = 'org.kordamp.gradle.copy.dependencies.threads'
+
     private final StringState configuration
     private final ListState includes
     private final ListState excludes
     private final EnumState<Layout> layout
+    private final EnumState<Mode> mode
     private final DirectoryState outputDirectory
 
     CopyDependenciesTask() {
         configuration = SimpleStringState.of(this, 'copy.dependencies.configuration', (String) null)
         layout = SimpleEnumState.of(this, 'copy.dependencies.layout', Layout, Layout.FLAT)
+        mode = SimpleEnumState.of(this, 'copy.dependencies.mode', Mode, Mode.COPY)
         includes = SimpleListState.of(this, 'copy.dependencies.includes', [])
         excludes = SimpleListState.of(this, 'copy.dependencies.excludes', [])
 
@@ -87,6 +99,23 @@ class CopyDependenciesTask extends DefaultTask {
         FLAT, DEFAULT
     }
 
+    /**
+     * @since 0.55.0
+     */
+    enum Mode {
+        /**
+         * Copies artifacts, preserving their last modified timestamp.
+         */
+        COPY,
+        /**
+         * Hard links artifacts, falls back to {@code COPY} when source and destination
+         * do not share a file system. Linked outputs share their contents with the files
+         * in Gradle's dependency cache, modifying them in place (signing, stripping, etc)
+         * corrupts the cache.
+         */
+        LINK
+    }
+
     @Option(option = 'configuration', description = 'The name of the configuration (REQUIRED).')
     void setConfiguration(String configuration) {
         getConfiguration().set(configuration)
@@ -122,6 +151,26 @@ class CopyDependenciesTask extends DefaultTask {
         return new ArrayList<Layout>(Arrays.asList(Layout.values()))
     }
 
+    @Option(option = 'mode', description = 'The copy mode (OPTIONAL).')
+    void setMode(Mode mode) {
+        getMode().set(mode)
+    }
+
+    @Internal
+    Property<Mode> getMode() {
+        mode.property
+    }
+
+    @Input
+    Provider<Mode> getResolvedMode() {
+        mode.provider
+    }
+
+    @OptionValues('mode')
+    List<Mode> getAvailableModes() {
+        return new ArrayList<Mode>(Arrays.asList(Mode.values()))
+    }
+
     @Internal
     Property<Directory> getOutputDirectory() {
         outputDirectory.property
@@ -187,76 +236,143 @@ class CopyDependenciesTask extends DefaultTask {
         project.logger.info("Resolving configuration ${cfg.name}.")
         cfg.resolve()
 
-        project.logger.info("Configuration ${cfg.name} contains ${cfg.resolvedConfiguration.resolvedArtifacts.size()} artifacts.")
-        Set<ResolvedArtifact> artifacts = []
-        artifacts.addAll(cfg.resolvedConfiguration.resolvedArtifacts)
+        Set<ResolvedArtifact> artifacts = cfg.resolvedConfiguration.resolvedArtifacts
+        project.logger.info("Configuration ${cfg.name} contains ${artifacts.size()} artifacts.")
 
-        Set<ResolvedArtifact> excluded = filterDependencies(artifacts, (List<String>) getResolvedExcludes().get())
-        if (getResolvedIncludes().present) {
-            excluded = filterDependencies(excluded, (List<String>) getResolvedIncludes().get())
-        }
+        Set<ResolvedArtifact> filtered = filterDependencies(artifacts,
+            (List<String>) getResolvedIncludes().get(),
+            (List<String>) getResolvedExcludes().get())
 
         File outputDir = getResolvedOutputDirectory().get().asFile
         outputDir.mkdirs()
 
         switch (getResolvedLayout().get()) {
             case Layout.DEFAULT:
-                copyDefault(outputDir, excluded)
+                copyDefault(outputDir, filtered)
                 break
             default:
-                copyFlat(outputDir, excluded)
+                copyFlat(outputDir, filtered)
                 break
         }
     }
 
     private void copyFlat(File outputDir, Set<ResolvedArtifact> artifacts) {
+        // keyed by destination, artifacts sharing a file name are written once, the last one wins
+        Map<File, File> targets = [:]
         artifacts.each { artifact ->
-            Files.copy(artifact.file.toPath(), new File(outputDir, artifact.file.getName()).toPath(), REPLACE_EXISTING)
+            targets.put(new File(outputDir, artifact.file.getName()), artifact.file)
         }
+        transfer(targets)
     }
 
-    @CompileDynamic
     private void copyDefault(File outputDir, Set<ResolvedArtifact> artifacts) {
-        artifacts.each {
-            String g = it.moduleVersion.id.group.replace('.', '/')
-            String a = it.moduleVersion.id.name
-            String v = it.moduleVersion.version
-            File src = configuration.files.find { it.name.startsWith("${a}-${v}".toString()) }
-            if (src) {
-                String S = File.separator
-                File dest = new File("${outputDir.absolutePath}${S}${g}${S}${a}${S}${v}${S}${src.name}")
-                dest.parentFile.mkdirs()
-                Files.copy(src.toPath(), dest.toPath(), REPLACE_EXISTING)
-            }
+        Map<File, File> targets = [:]
+        artifacts.each { artifact ->
+            String g = artifact.moduleVersion.id.group.replace('.', '/')
+            String a = artifact.moduleVersion.id.name
+            String v = artifact.moduleVersion.id.version
+            File src = artifact.file
+            String S = File.separator
+            targets.put(new File("${outputDir.absolutePath}${S}${g}${S}${a}${S}${v}${S}${src.name}"), src)
         }
+        transfer(targets)
     }
 
-    private Set<ResolvedArtifact> filterDependencies(Set<ResolvedArtifact> dependencies, List<String> thePatterns) {
-        Set<ResolvedArtifact> filtered = new LinkedHashSet<>(dependencies)
-
-        if (thePatterns != null && thePatterns.size() > 0) {
-            for (String pattern : thePatterns) {
-                String[] subStrings = pattern.split(':')
-                subStrings = StringUtils.stripAll(subStrings)
-                String resultPattern = StringUtils.join(subStrings, ':')
+    /**
+     * Transfers sources to their destinations. Each destination is written by a single task.
+     */
+    private void transfer(Map<File, File> targets) {
+        Mode mode = getResolvedMode().get()
+        AtomicInteger linked = new AtomicInteger()
+        AtomicInteger copied = new AtomicInteger()
+        AtomicInteger skipped = new AtomicInteger()
+
+        List<Callable<Void>> tasks = []
+        targets.each { File dest, File src ->
+            tasks << (Callable<Void>) new Callable<Void>() {
+                @Override
+                Void call() throws Exception {
+                    if (isUpToDate(src, dest)) {
+                        skipped.incrementAndGet()
+                    } else if (mode == Mode.LINK && link(src.toPath(), dest.toPath())) {
+                        linked.incrementAndGet()
+                    } else {
+                        dest.parentFile.mkdirs()
+                        Files.copy(src.toPath(), dest.toPath(), REPLACE_EXISTING, COPY_ATTRIBUTES)
+                        copied.incrementAndGet()
+                    }
+                    null
+                }
+            }
+        }
 
-                for (ResolvedArtifact artifact : dependencies) {
-                    if (compareDependency(resultPattern, artifact)) {
-                        filtered.remove(artifact)
+        int threads = Math.min(resolveThreads(), tasks.size())
+        if (threads < 2) {
+            for (Callable<Void> task : tasks) task.call()
+        } else {
+            ExecutorService pool = Executors.newFixedThreadPool(threads)
+            try {
+                for (Future<Void> future : pool.invokeAll(tasks)) {
+                    try {
+                        future.get()
+                    } catch (ExecutionException e) {
+                        throw e.cause
                     }
                 }
+            } finally {
+                pool.shutdownNow()
             }
         }
-        return filtered
+
+        project.logger.info("Copied ${copied.get()}, linked ${linked.get()}, skipped ${skipped.get()} artifacts.")
     }
 
-    private boolean compareDependency(String pattern, ResolvedArtifact artifact) {
-        ArtifactMatcher.Pattern am = new ArtifactMatcher.Pattern(pattern)
+    private static boolean isUpToDate(File src, File dest) {
+        // copies preserve the last modified timestamp, links share it
+        dest.exists() && dest.length() == src.length() && dest.lastModified() == src.lastModified()
+    }
+
+    private boolean link(Path src, Path dest) {
+        try {
+            Files.createDirectories(dest.parent)
+            Files.deleteIfExists(dest)
+            Files.createLink(dest, src)
+            return true
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // source and destination are on different file systems, or links are not supported
+            logger.debug("Could not link ${src} to ${dest}. ${e.message}")
+        }
+        false
+    }
+
+    private int resolveThreads() {
+        String threads = System.getProperty(ORG_KORDAMP_GRADLE_COPY_DEPENDENCIES_THREADS)
+        if (isNotBlank(threads)) {
+            try {
+                return Math.max(1, Integer.parseInt(threads.trim()))
+            } catch (NumberFormatException ignored) {
+                logger.warn("Invalid value '{}' for {}, using the default number of threads", threads, ORG_KORDAMP_GRADLE_COPY_DEPENDENCIES_THREADS)
+            }
+        }
+        Runtime.runtime.availableProcessors()
+    }
+
+    private Set<ResolvedArtifact> filterDependencies(Set<ResolvedArtifact> dependencies, List<String> includes, List<String> excludes) {
+        // patterns are compiled once, each artifact is then tested against all of them
+        ArtifactMatcher includeMatcher = new ArtifactMatcher(includes ?: [], [])
+        ArtifactMatcher excludeMatcher = new ArtifactMatcher(excludes ?: [], [])
+
+        Set<ResolvedArtifact> filtered = new LinkedHashSet<>()
         try {
-            return am.match(artifact)
-        } catch (Exception e) {
+            for (ResolvedArtifact artifact : dependencies) {
+                if ((includeMatcher.empty || includeMatcher.match(artifact)) && !excludeMatcher.match(artifact)) {
+                    filtered.add(artifact)
+                }
+            }
+        } catch (InvalidVersionSpecificationException e) {
             throw new IllegalStateException('Invalid Version Range: ', e)
         }
+        return filtered
     }
 
     @CompileStatic
@@ -267,20 +383,24 @@ class CopyDependenciesTask extends DefaultTask {
         static class Pattern {
             private String pattern
             private String[] parts
+            private java.util.regex.Pattern[] regexes
+            private VersionRange versionRange
 
             Pattern(String pattern) {
                 this.pattern = requireNonNull(pattern, 'pattern')
 
-                parts = pattern.split(":", 5)
+                parts = StringUtils.stripAll(pattern.split(":", 5))
 
                 if (parts.length == 5) {
                     throw new IllegalArgumentException('Pattern contains too many delimiters.')
                 }
 
-                for (String part : parts) {
-                    if (isBlank(part)) {
+                regexes = new java.util.regex.Pattern[parts.length]
+                for (int i = 0; i < parts.length; i++) {
+                    if (isBlank(parts[i])) {
                         throw new IllegalArgumentException('Pattern or one of its part is empty.')
                     }
+                    regexes[i] = compile(parts[i])
                 }
             }
 
@@ -289,28 +409,38 @@ class CopyDependenciesTask extends DefaultTask {
 
                 switch (parts.length) {
                     case 4:
-                        if (!matches(parts[3], artifact.classifier)) {
+                        if (!matches(3, artifact.classifier)) {
                             return false
                         }
                     case 3:
-                        if (!matches(parts[2], artifact.moduleVersion.id.version)) {
-                            if (!containsVersion(createFromVersionSpec(parts[2]),
+                        if (!matches(2, artifact.moduleVersion.id.version)) {
+                            if (versionRange == null) versionRange = createFromVersionSpec(parts[2])
+                            if (!containsVersion(versionRange,
                                 new DefaultArtifactVersion(artifact.moduleVersion.id.version))) {
                                 return false
                             }
                         }
                     case 2:
-                        if (!matches(parts[1], artifact.moduleVersion.id.name)) {
+                        if (!matches(1, artifact.moduleVersion.id.name)) {
                             return false
                         }
                     case 1:
-                        return matches(parts[0], artifact.moduleVersion.id.group)
+                        return matches(0, artifact.moduleVersion.id.group)
                     default:
                         throw new AssertionError()
                 }
             }
 
-            private boolean matches(String expression, String input) {
+            private boolean matches(int part, String input) {
+                // TODO: Check if this can be done better or prevented earlier.
+                if (input == null) {
+                    input = ''
+                }
+
+                return regexes[part].matcher(input).matches()
+            }
+
+            private static java.util.regex.Pattern compile(String expression) {
                 String regex = expression.replace('.', '\\.')
                     .replace('*', '.*')
                     .replace(':', '\\:')
@@ -320,12 +450,7 @@ class CopyDependenciesTask extends DefaultTask {
                     .replace('(', '\\(')
                     .replace(')', '\\)')
 
-                // TODO: Check if this can be done better or prevented earlier.
-                if (input == null) {
-                    input = ''
-                }
-
-                return java.util.regex.Pattern.matches(regex, input)
+                return java.util.regex.Pattern.compile(regex)
             }
 
             /**
@@ -389,6 +514,10 @@ class CopyDependenciesTask extends DefaultTask {
             }
         }
 
+        boolean isEmpty() {
+            patterns.isEmpty()
+        }
+
         /**
          * Check if artifact matches patterns.
          *
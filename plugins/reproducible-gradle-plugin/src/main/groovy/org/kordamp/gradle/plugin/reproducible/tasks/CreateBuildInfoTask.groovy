@@ -37,10 +37,18 @@ import org.gradle.api.tasks.PathSensitivity
 import org.gradle.api.tasks.TaskAction
 import org.gradle.util.GradleVersion
 import org.kordamp.gradle.plugin.base.ProjectConfigurationExtension
+import org.kordamp.gradle.util.Algorithm
+import org.kordamp.gradle.util.Cache
+import org.kordamp.gradle.util.ChecksumUtils
 
 import javax.inject.Inject
-import java.security.DigestInputStream
-import java.security.MessageDigest
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.atomic.AtomicInteger
 
 import static org.kordamp.gradle.util.PluginUtils.resolveConfig
 import static org.kordamp.gradle.util.StringUtils.isBlank
@@ -55,6 +63,10 @@ import static org.kordamp.gradle.util.StringUtils.isNotBlank
  */
 @CompileStatic
 class CreateBuildInfoTask extends DefaultTask {
+    static final String ORG_KORDAMP_GRADLE_REPRODUCIBLE_CHECKSUM_THREADS = 'org.kordamp.gradle.reproducible.checksum.threads'
+
+    private static final Algorithm[] ALGORITHMS = [Algorithm.MD5, Algorithm.SHA_1, Algorithm.SHA_256, Algorithm.SHA_512] as Algorithm[]
+
     @OutputFile
     final RegularFileProperty outputFile
 
@@ -184,22 +196,109 @@ class CreateBuildInfoTask extends DefaultTask {
     }
 
     private void printArtifacts(Writer writer, Collection<File> files) {
+        List<String[]> checksums = computeChecksums(new ArrayList<File>(files))
         files.eachWithIndex { File file, int i ->
+            String[] hashes = checksums[i]
             writer.println("outputs.${i}.filename=${file.name}")
             writer.println("outputs.${i}.length=${file.length()}")
-            writer.println("outputs.${i}.checksums.md5=${calculateHash(file, 'MD5')}")
-            writer.println("outputs.${i}.checksums.sha1=${calculateHash(file, 'SHA1')}")
-            writer.println("outputs.${i}.checksums.sha256=${calculateHash(file, 'SHA-256')}")
-            writer.println("outputs.${i}.checksums.sha512=${calculateHash(file, 'SHA-512')}")
+            writer.println("outputs.${i}.checksums.md5=${hashes[0]}")
+            writer.println("outputs.${i}.checksums.sha1=${hashes[1]}")
+            writer.println("outputs.${i}.checksums.sha256=${hashes[2]}")
+            writer.println("outputs.${i}.checksums.sha512=${hashes[3]}")
         }
     }
 
-    private static calculateHash(File file, String algorithm) {
-        file.withInputStream {
-            new DigestInputStream(it, MessageDigest.getInstance(algorithm)).withStream {
-                it.eachByte {}
-                it.messageDigest.digest().encodeHex() as String
+    /**
+     * Computes checksums for all files, in the same order. Results are cached by path, size and
+     * last modified time; misses are hashed in parallel, reading each file only once.
+     */
+    private List<String[]> computeChecksums(List<File> files) {
+        List<String[]> checksums = new ArrayList<>(Collections.nCopies(files.size(), (String[]) null))
+        List<Integer> misses = []
+
+        Cache cache = Cache.getInstance()
+        files.eachWithIndex { File file, int i ->
+            String[] cached = new String[ALGORITHMS.length]
+            boolean found = cache.read(project.gradle, checksumKey(file)) { BufferedReader reader ->
+                for (int a = 0; a < cached.length; a++) {
+                    cached[a] = reader.readLine()
+                }
+            }
+            if (found && !cached.any { String hash -> isBlank(hash) }) {
+                checksums[i] = cached
+            } else {
+                misses << i
+            }
+        }
+
+        if (!misses) return checksums
+
+        int threads = Math.min(resolveThreads(), misses.size())
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ChecksumThreadFactory())
+        try {
+            List<Future<String[]>> futures = misses.collect { Integer i ->
+                File file = files[i]
+                executor.submit(new Callable<String[]>() {
+                    @Override
+                    String[] call() throws Exception {
+                        hash(file)
+                    }
+                })
+            }
+
+            misses.eachWithIndex { Integer i, int j ->
+                String[] hashes = getResult(futures[j], files[i])
+                checksums[i] = hashes
+                cache.write(project.gradle, checksumKey(files[i])) { BufferedWriter writer ->
+                    for (String hash : hashes) {
+                        writer.write(hash)
+                        writer.newLine()
+                    }
+                }
             }
+        } finally {
+            executor.shutdownNow()
+        }
+
+        checksums
+    }
+
+    private static String[] getResult(Future<String[]> future, File file) {
+        try {
+            return future.get()
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not compute checksums for ${file}".toString(), e.cause)
+        }
+    }
+
+    private static Cache.Key checksumKey(File file) {
+        Cache.key('buildinfo-checksums:' + file.absolutePath + ':' + file.length() + ':' + file.lastModified())
+    }
+
+    private int resolveThreads() {
+        String threads = System.getProperty(ORG_KORDAMP_GRADLE_REPRODUCIBLE_CHECKSUM_THREADS)
+        if (isNotBlank(threads)) {
+            try {
+                return Math.max(1, Integer.parseInt(threads.trim()))
+            } catch (NumberFormatException ignored) {
+                logger.warn("Invalid value '{}' for {}, using the default number of threads", threads, ORG_KORDAMP_GRADLE_REPRODUCIBLE_CHECKSUM_THREADS)
+            }
+        }
+        Runtime.runtime.availableProcessors()
+    }
+
+    private static String[] hash(File file) {
+        ChecksumUtils.checksums(file, ALGORITHMS).values() as String[]
+    }
+
+    private static class ChecksumThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger()
+
+        @Override
+        Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, 'kordamp-buildinfo-checksum-' + count.incrementAndGet())
+            thread.daemon = true
+            thread
         }
     }
 }
@@ -50,41 +50,6 @@ abstract class AbstractPluginsSpec {
         }
     }
 
-    protected String asGlobRegex(String globPattern) {
-        if (globPattern == '*') return '^.*$'
-
-        StringBuilder result = new StringBuilder(globPattern.length() + 2)
-        result.append('^')
-        for (int index = 0; index < globPattern.length(); index++) {
-            char character = globPattern.charAt(index)
-            switch (character) {
-                case '*':
-                    result.append('.*')
-                    break
-                case '?':
-                    result.append('.')
-                    break
-                case '$':
-                case '(':
-                case ')':
-                case '.':
-                case '[':
-                case '\\':
-                case ']':
-                case '^':
-                case '{':
-                case '|':
-                case '}':
-                    result.append('\\')
-                default:
-                    result.append(character)
-                    break
-            }
-        }
-        result.append('$')
-        return result.toString()
-    }
-
     protected boolean isBlank(String str) {
         if (str == null || str.length() == 0) {
             return true
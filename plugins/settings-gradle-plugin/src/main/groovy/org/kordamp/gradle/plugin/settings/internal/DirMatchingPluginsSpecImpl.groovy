@@ -18,12 +18,10 @@
 package org.kordamp.gradle.plugin.settings.internal
 
 import groovy.transform.CompileStatic
-import groovy.transform.Memoized
 import groovy.transform.PackageScope
 import org.gradle.api.Project
 import org.kordamp.gradle.plugin.settings.PluginsSpec
-
-import java.util.regex.Pattern
+import org.kordamp.gradle.util.GlobUtils
 
 /**
  * @author Andres Almiray
@@ -76,22 +74,8 @@ class DirMatchingPluginsSpecImpl extends AbstractPluginsSpec implements PluginsS
         String parentDir = project.projectDir.parentFile.name
         for (String dir : dirs) {
             if (parentDir == dir && !(excludedDirs.contains(project.projectDir.name))) {
-                boolean excluded = excludedPaths.contains(project.path)
-                if (!excluded) {
-                    for (String exclude : excludedPaths) {
-                        if (pattern(exclude).matcher(project.path).matches()) {
-                            excluded = true
-                            break
-                        }
-                    }
-                }
-                if (!excluded) applyPluginsTo(project)
+                if (!GlobUtils.nameMatcher(excludedPaths).matches(project.path)) applyPluginsTo(project)
             }
         }
     }
-
-    @Memoized
-    protected Pattern pattern(String regex) {
-        Pattern.compile(asGlobRegex(regex))
-    }
 }
\ No newline at end of file
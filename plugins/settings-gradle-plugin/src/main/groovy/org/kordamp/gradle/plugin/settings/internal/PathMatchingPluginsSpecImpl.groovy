@@ -18,12 +18,10 @@
 package org.kordamp.gradle.plugin.settings.internal
 
 import groovy.transform.CompileStatic
-import groovy.transform.Memoized
 import groovy.transform.PackageScope
 import org.gradle.api.Project
 import org.kordamp.gradle.plugin.settings.PluginsSpec
-
-import java.util.regex.Pattern
+import org.kordamp.gradle.util.GlobUtils
 
 /**
  * @author Andres Almiray
@@ -55,15 +53,12 @@ class PathMatchingPluginsSpecImpl extends AbstractPluginsSpec implements Plugins
     }
 
     void apply(Project project) {
-        for (String path : paths) {
-            if (path == project.path || pattern(path).matcher(project.path).matches()) {
-                applyPluginsTo(project)
-            }
+        if (pathsMatcher().matches(project.path)) {
+            applyPluginsTo(project)
         }
     }
 
-    @Memoized
-    protected Pattern pattern(String regex) {
-        Pattern.compile(asGlobRegex(regex))
+    protected GlobUtils.GlobMatcher pathsMatcher() {
+        GlobUtils.nameMatcher(paths)
     }
 }
@@ -21,6 +21,7 @@ import groovy.transform.CompileStatic
 import groovy.transform.PackageScope
 import org.gradle.api.Project
 import org.kordamp.gradle.plugin.settings.PluginsSpec
+import org.kordamp.gradle.util.GlobUtils
 
 /**
  * @author Andres Almiray
@@ -48,19 +49,8 @@ class PathsMatchingPluginsSpecImpl extends PathMatchingPluginsSpecImpl implement
     }
 
     void apply(Project project) {
-        for (String path : paths) {
-            if (path == project.path || pattern(path).matcher(project.path).matches()) {
-                boolean excluded = excludes.contains(project.path)
-                if (!excluded) {
-                    for (String exclude : excludes) {
-                        if (pattern(exclude).matcher(project.path).matches()) {
-                            excluded = true
-                            break
-                        }
-                    }
-                }
-                if (!excluded) applyPluginsTo(project)
-            }
+        if (pathsMatcher().matches(project.path) && !GlobUtils.nameMatcher(excludes).matches(project.path)) {
+            applyPluginsTo(project)
         }
     }
 }
@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.settings.internal
+
+import groovy.transform.CompileStatic
+import groovy.transform.PackageScope
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.RecursiveAction
+import java.util.function.BiFunction
+import java.util.function.BiPredicate
+
+/**
+ * Discovers project directories on a fork-join pool. A directory that holds a build file
+ * is a project and its subdirectories are not searched, any other directory is searched in
+ * parallel with its siblings. Hidden directories, {@code build}, {@code buildSrc} and
+ * {@code gradle} at the root, and directories rejected by the exclusion filter are pruned
+ * before they are listed. Both the resolver and the filter are called from worker threads.
+ * The last modification timestamp of every visited directory is recorded before it is inspected.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@PackageScope
+@CompileStatic
+final class ProjectDirectoryWalker {
+    private static final Set<String> ROOT_EXCLUDES = ['build', 'buildSrc', 'gradle'] as Set
+
+    private final File rootDir
+    private final BiFunction<File, String, File> buildFileResolver
+    private final BiPredicate<String, String> excluded
+    private final Queue<ProjectDir> projects = new ConcurrentLinkedQueue<>()
+    private final Map<String, Long> directories = new ConcurrentHashMap<>()
+
+    /**
+     * @param rootDir the directory to search, it is never a project candidate itself.
+     * @param buildFileResolver resolves the build file of a directory given its name, may return {@code null}.
+     * @param excluded tests a directory given its path relative to the root and its name.
+     */
+    ProjectDirectoryWalker(File rootDir, BiFunction<File, String, File> buildFileResolver, BiPredicate<String, String> excluded) {
+        this.rootDir = rootDir
+        this.buildFileResolver = buildFileResolver
+        this.excluded = excluded
+    }
+
+    /**
+     * Returns all discovered projects sorted by their path relative to the root.
+     */
+    List<ProjectDir> walk() {
+        visit(rootDir)
+        File[] children = rootDir.listFiles()
+        if (!children) return []
+
+        List<RecursiveAction> tasks = []
+        for (File child : children) {
+            if (child.directory && !ROOT_EXCLUDES.contains(child.name) && !prune(child, child.name)) {
+                tasks << (RecursiveAction) new DirectoryTask(child, child.name)
+            }
+        }
+        if (!tasks) return []
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.runtime.availableProcessors())
+        try {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks)
+                }
+            })
+        } finally {
+            pool.shutdown()
+        }
+
+        List<ProjectDir> result = new ArrayList<>(projects)
+        result.sort { ProjectDir a, ProjectDir b -> a.relativePath <=> b.relativePath }
+        result
+    }
+
+    /**
+     * Returns the last modification timestamp of every visited directory, keyed by absolute path.
+     */
+    Map<String, Long> getDirectories() {
+        Collections.unmodifiableMap(directories)
+    }
+
+    private void visit(File dir) {
+        directories.put(dir.absolutePath, dir.lastModified())
+    }
+
+    private boolean prune(File dir, String relativePath) {
+        dir.name.charAt(0) == '.' || excluded.test(relativePath, dir.name)
+    }
+
+    @PackageScope
+    @CompileStatic
+    static final class ProjectDir {
+        final File dir
+        final File buildFile
+        final String relativePath
+
+        ProjectDir(File dir, File buildFile, String relativePath) {
+            this.dir = dir
+            this.buildFile = buildFile
+            this.relativePath = relativePath
+        }
+    }
+
+    private final class DirectoryTask extends RecursiveAction {
+        private final File dir
+        private final String relativePath
+
+        DirectoryTask(File dir, String relativePath) {
+            this.dir = dir
+            this.relativePath = relativePath
+        }
+
+        @Override
+        protected void compute() {
+            visit(dir)
+            File buildFile = buildFileResolver.apply(dir, dir.name)
+            if (buildFile != null && buildFile.exists()) {
+                projects.add(new ProjectDir(dir, buildFile, relativePath))
+                return
+            }
+
+            File[] children = dir.listFiles()
+            if (!children) return
+
+            List<RecursiveAction> tasks = []
+            for (File child : children) {
+                if (!child.directory) continue
+                String childPath = relativePath + '/' + child.name
+                if (!prune(child, childPath)) {
+                    tasks << (RecursiveAction) new DirectoryTask(child, childPath)
+                }
+            }
+            if (tasks) invokeAll(tasks)
+        }
+    }
+}
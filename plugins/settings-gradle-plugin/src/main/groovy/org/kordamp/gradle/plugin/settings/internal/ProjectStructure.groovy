@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.settings.internal
+
+import groovy.transform.CompileStatic
+import groovy.transform.PackageScope
+
+/**
+ * Cached project structure. Besides the included projects it holds a fingerprint of
+ * everything that was inspected while discovering them: the last modification timestamp
+ * of every scanned directory (which changes when entries are added, removed or renamed),
+ * the settings files, and a digest of the discovery configuration.
+ * <pre>
+ * int   magic
+ * int   version
+ * UTF   configuration digest
+ * int   count
+ * entries: UTF path, long lastModified
+ * int   count
+ * projects: UTF path, UTF name, UTF projectDir, UTF buildFileName
+ * </pre>
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@PackageScope
+@CompileStatic
+final class ProjectStructure {
+    private static final int MAGIC = 0x4B505253
+    static final int VERSION = 1
+
+    final String configuration
+    final Map<String, Long> fingerprint
+    final List<ProjectEntry> projects
+
+    ProjectStructure(String configuration, Map<String, Long> fingerprint, List<ProjectEntry> projects) {
+        this.configuration = configuration
+        this.fingerprint = fingerprint
+        this.projects = projects
+    }
+
+    /**
+     * Whether the structure was computed with the given configuration and nothing that was
+     * inspected has changed since. Performs a single stat per fingerprinted path.
+     */
+    boolean isUpToDate(String configuration) {
+        if (this.configuration != configuration) return false
+
+        for (Map.Entry<String, Long> entry : fingerprint.entrySet()) {
+            // lastModified() is 0 for missing files, which is also what was recorded for them
+            if (new File(entry.key).lastModified() != entry.value) return false
+        }
+        for (ProjectEntry project : projects) {
+            if (!project.buildFile.exists()) return false
+        }
+        true
+    }
+
+    void write(OutputStream out) {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out))
+        data.writeInt(MAGIC)
+        data.writeInt(VERSION)
+        data.writeUTF(configuration)
+        data.writeInt(fingerprint.size())
+        for (Map.Entry<String, Long> entry : fingerprint.entrySet()) {
+            data.writeUTF(entry.key)
+            data.writeLong(entry.value)
+        }
+        data.writeInt(projects.size())
+        for (ProjectEntry project : projects) {
+            data.writeUTF(project.path)
+            data.writeUTF(project.name)
+            data.writeUTF(project.projectDir.absolutePath)
+            data.writeUTF(project.buildFileName)
+        }
+        data.flush()
+    }
+
+    /**
+     * Reads a structure. Returns {@code null} if the contents do not match the expected format.
+     */
+    static ProjectStructure read(InputStream input) {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input))
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) return null
+
+        String configuration = data.readUTF()
+        int count = data.readInt()
+        Map<String, Long> fingerprint = new LinkedHashMap<>()
+        for (int i = 0; i < count; i++) {
+            fingerprint.put(data.readUTF(), data.readLong())
+        }
+        count = data.readInt()
+        List<ProjectEntry> projects = new ArrayList<>(Math.max(count, 0))
+        for (int i = 0; i < count; i++) {
+            projects << new ProjectEntry(data.readUTF(), data.readUTF(), new File(data.readUTF()), data.readUTF())
+        }
+        new ProjectStructure(configuration, fingerprint, projects)
+    }
+
+    @PackageScope
+    @CompileStatic
+    static final class ProjectEntry {
+        final String path
+        final String name
+        final File projectDir
+        final String buildFileName
+
+        ProjectEntry(String path, String name, File projectDir, String buildFileName) {
+            this.path = path
+            this.name = name
+            this.projectDir = projectDir
+            this.buildFileName = buildFileName
+        }
+
+        File getBuildFile() {
+            new File(projectDir, buildFileName)
+        }
+    }
+}
@@ -18,7 +18,6 @@
 package org.kordamp.gradle.plugin.settings.internal
 
 import groovy.transform.CompileStatic
-import groovy.transform.Memoized
 import org.gradle.BuildAdapter
 import org.gradle.api.Action
 import org.gradle.api.Project
@@ -35,13 +34,17 @@ import org.gradle.api.provider.Property
 import org.gradle.api.provider.SetProperty
 import org.kordamp.gradle.plugin.settings.PluginsSpec
 import org.kordamp.gradle.plugin.settings.ProjectsExtension
+import org.kordamp.gradle.util.Algorithm
 import org.kordamp.gradle.util.Cache
+import org.kordamp.gradle.util.ChecksumUtils
 import org.kordamp.gradle.util.ConfigureUtil
+import org.kordamp.gradle.util.GlobUtils
 
+import java.nio.charset.StandardCharsets
+import java.util.function.BiFunction
+import java.util.function.BiPredicate
 import java.util.regex.Pattern
 
-import static org.kordamp.gradle.util.GlobUtils.asGlobRegex
-
 /**
  * @author Andres Almiray
  * @since 0.35.0
@@ -67,13 +70,14 @@ class ProjectsExtensionImpl implements ProjectsExtension {
     final Set<PathSpecImpl> pathConditions = []
 
     private final Settings settings
+    private final Map<String, Long> scannedFiles = [:]
 
     ProjectsExtensionImpl(Settings settings, ObjectFactory objects) {
         this.settings = settings
         layout = objects.property(Layout).convention(Layout.TWO_LEVEL)
         enforceNamingConvention = objects.property(Boolean).convention(true)
         useLongPaths = objects.property(Boolean).convention(false)
-        cache = objects.property(Boolean).convention(false)
+        cache = objects.property(Boolean).convention(true)
         directories = objects.listProperty(String).convention([])
         directoriesWithPrefixSuffix = objects.mapProperty(String, String).convention([:])
         excludes = objects.setProperty(String).convention(new LinkedHashSet<String>())
@@ -84,10 +88,13 @@ class ProjectsExtensionImpl implements ProjectsExtension {
         settings.gradle.addBuildListener(new BuildAdapter() {
             @Override
             void settingsEvaluated(Settings s) {
-                Cache.Key key = Cache.key(s.settingsDir.absolutePath + '-projects')
-                if (!resolveFromCache(key)) {
+                // the key is versioned, older plugin versions read a text format from their own entries
+                Cache.Key key = Cache.key(s.settingsDir.absolutePath + '-projects-v' + ProjectStructure.VERSION)
+                // computed upfront as resolution updates excludes with those of directory conditions
+                String configuration = configurationDigest()
+                if (!resolveFromCache(key, configuration)) {
                     resolveFromConfig()
-                    writeConfigToCache(key)
+                    if (cache.get()) writeConfigToCache(key, configuration)
                 }
                 Cache.getInstance().touch(settings.gradle, key)
             }
@@ -99,41 +106,50 @@ class ProjectsExtensionImpl implements ProjectsExtension {
         })
     }
 
-    private boolean resolveFromCache(Cache.Key key) {
-        long settingsLastModified = findSettingsFile()?.lastModified() ?: Long.MIN_VALUE
-
+    private boolean resolveFromCache(Cache.Key key, String configuration) {
         LOG.info("[settings] Caching of project structure is ${cache.get()? 'enabled': 'disabled'}.")
 
-        if (cache.get() &&
-            Cache.getInstance().has(settings.gradle, key) &&
-            Cache.getInstance().lastModified(settings.gradle, key) > settingsLastModified) {
-
-            LOG.info("[settings] Reading project structure from cache. ${key.getAbsolutePath(settings.gradle)}")
-
-            return Cache.getInstance().read(settings.gradle, key) { BufferedReader reader ->
-                reader.readLines().each { String line ->
-                    String[] parts = line.split('#')
-                    String projectPath = parts[0]
-                    String projectName = parts[1]
-                    File projectDir = new File(parts[2])
-                    File buildFile = new File(parts[3])
-                    settings.include(projectPath)
-                    settings.project(projectPath).name = projectName
-                    settings.project(projectPath).projectDir = projectDir
-                    settings.project(projectPath).buildFileName = buildFile.name
-                    LOG.info("[settings] Including project ${projectPath} -> ${buildFile.absolutePath}")
-                }
-            }
-        }
+        if (!cache.get()) return false
 
-        false
-    }
+        ProjectStructure structure = Cache.getInstance().decode(settings.gradle, key) { InputStream input ->
+            ProjectStructure.read(input)
+        }
+        if (!structure) return false
+        if (!structure.isUpToDate(configuration)) {
+            LOG.info("[settings] Cached project structure is out of date. ${key.getAbsolutePath(settings.gradle)}")
+            return false
+        }
 
-    private File findSettingsFile() {
-        [
-            new File(settings.settingsDir, 'settings.gradle'),
-            new File(settings.settingsDir, 'settings.gradle.kts')
-        ].find { it?.exists() } ?: null
+        LOG.info("[settings] Reading project structure from cache. ${key.getAbsolutePath(settings.gradle)}")
+        for (ProjectStructure.ProjectEntry project : structure.projects) {
+            settings.include(project.path)
+            settings.project(project.path).name = project.name
+            settings.project(project.path).projectDir = project.projectDir
+            settings.project(project.path).buildFileName = project.buildFileName
+            LOG.info("[settings] Including project ${project.path} -> ${project.buildFile.absolutePath}")
+        }
+        cleanup()
+        true
+    }
+
+    private String configurationDigest() {
+        StringBuilder b = new StringBuilder()
+        b.append(layout.get()).append('|')
+            .append(enforceNamingConvention.get()).append('|')
+            .append(useLongPaths.get()).append('|')
+            .append(directories.get()).append('|')
+            .append(directoriesWithPrefixSuffix.get()).append('|')
+            .append(excludes.get()).append('|')
+            .append(prefix.orNull).append('|')
+            .append(suffix.orNull).append('|')
+            .append(fileNameTransformation.orNull)
+        for (DirectorySpecImpl spec : directoryConditions) {
+            b.append('|').append(spec.dir).append(spec.excludes).append(spec.applies())
+        }
+        for (PathSpecImpl spec : pathConditions) {
+            b.append('|').append(spec.path).append(spec.applies())
+        }
+        ChecksumUtils.checksum(Algorithm.SHA_256, b.toString().getBytes(StandardCharsets.UTF_8))
     }
 
     private void resolveFromConfig() {
@@ -157,26 +173,35 @@ class ProjectsExtensionImpl implements ProjectsExtension {
         cleanup()
     }
 
-    private void writeConfigToCache(Cache.Key key) {
+    private void writeConfigToCache(Cache.Key key, String configuration) {
         LOG.info("[settings] Writing project structure to cache. ${key.getAbsolutePath(settings.gradle)}")
 
-        Cache.getInstance().write(settings.gradle, key) { BufferedWriter writer ->
-            writeProjectToCache(settings.rootProject, writer)
+        Map<String, Long> fingerprint = new TreeMap<>(scannedFiles)
+        for (String fileName : ['settings.gradle', 'settings.gradle.kts']) {
+            File file = new File(settings.settingsDir, fileName)
+            fingerprint.put(file.absolutePath, file.lastModified())
+        }
+
+        List<ProjectStructure.ProjectEntry> projects = []
+        for (ProjectDescriptor child : settings.rootProject.children) {
+            collectProjects(child, projects)
         }
+
+        ProjectStructure structure = new ProjectStructure(configuration, fingerprint, projects)
+        Cache.getInstance().put(settings.gradle, key) { OutputStream out -> structure.write(out) }
     }
 
-    private void writeProjectToCache(ProjectDescriptor project, BufferedWriter writer) {
-        writer.writeLine([
-            project.path,
-            project.name,
-            project.projectDir.absolutePath,
-            project.buildFile.absolutePath
-        ].join('#'))
+    private void collectProjects(ProjectDescriptor project, List<ProjectStructure.ProjectEntry> projects) {
+        projects << new ProjectStructure.ProjectEntry(project.path, project.name, project.projectDir, project.buildFileName)
         for (ProjectDescriptor child : project.children) {
-            writeProjectToCache(child, writer)
+            collectProjects(child, projects)
         }
     }
 
+    private void scanned(File dir) {
+        scannedFiles.put(dir.absolutePath, dir.lastModified())
+    }
+
     @Override
     void setLayout(String layout) {
         this.layout.set(Layout.valueOf(layout.trim().toUpperCase().replace('-', '_')))
@@ -224,6 +249,7 @@ class ProjectsExtensionImpl implements ProjectsExtension {
         for (DirectorySpecImpl spec : directoryConditions) {
             if (!spec.applies()) continue
             File parentDir = new File(settings.rootDir, spec.dir)
+            scanned(parentDir)
             if (!parentDir.exists()) {
                 LOG.info "Skipping ${parentDir} as it does not exist."
                 continue
@@ -236,6 +262,7 @@ class ProjectsExtensionImpl implements ProjectsExtension {
         for (PathSpecImpl spec : pathConditions) {
             if (!spec.applies()) continue
             File projectDir = new File(settings.rootDir, spec.path)
+            scanned(projectDir)
             if (!projectDir.exists()) {
                 LOG.info "Skipping ${projectDir} as it does not exist."
                 continue
@@ -248,6 +275,7 @@ class ProjectsExtensionImpl implements ProjectsExtension {
         if (directories.get()) {
             for (String parentDirName : directories.get()) {
                 File parentDir = new File(settings.rootDir, parentDirName)
+                scanned(parentDir)
                 if (!parentDir.exists()) {
                     LOG.info "Skipping ${parentDir} as it does not exist."
                     continue
@@ -259,6 +287,7 @@ class ProjectsExtensionImpl implements ProjectsExtension {
             Map<String, String> dirs = directoriesWithPrefixSuffix.get()
             for (String parentDirName : dirs.keySet()) {
                 File parentDir = new File(settings.rootDir, parentDirName)
+                scanned(parentDir)
                 if (!parentDir.exists()) {
                     LOG.info "Skipping ${parentDir} as it does not exist."
                     continue
@@ -267,6 +296,7 @@ class ProjectsExtensionImpl implements ProjectsExtension {
                 doProcessTwoLevelLayout(parentDir, dirs.get(parentDirName))
             }
         } else {
+            scanned(settings.settingsDir)
             settings.settingsDir.eachDir { File parentDir ->
                 if (!skipDirectoryDiscoveryFor(parentDir)) {
                     doProcessTwoLevelLayout(parentDir)
@@ -279,6 +309,7 @@ class ProjectsExtensionImpl implements ProjectsExtension {
         if (directories.get()) {
             for (String path : directories.get()) {
                 File projectDir = new File(settings.rootDir, path)
+                scanned(projectDir)
                 if (!projectDir.exists()) {
                     LOG.info "Skipping ${projectDir} as it does not exist."
                     continue
@@ -289,6 +320,7 @@ class ProjectsExtensionImpl implements ProjectsExtension {
             Map<String, String> dirs = directoriesWithPrefixSuffix.get()
             for (String parentDirName : dirs.keySet()) {
                 File parentDir = new File(settings.rootDir, parentDirName)
+                scanned(parentDir)
                 if (!parentDir.exists()) {
                     LOG.info "Skipping ${parentDir} as it does not exist."
                     continue
@@ -297,38 +329,35 @@ class ProjectsExtensionImpl implements ProjectsExtension {
                 doProcessTwoLevelLayout(parentDir, dirs.get(parentDirName))
             }
         }  else {
-            settings.settingsDir.eachDir { File projectDir ->
-                discoverProject(projectDir)
-            }
+            discoverProjects()
         }
     }
 
-    private void discoverProject(File projectDir) {
-        if (!skipDirectoryDiscoveryFor(projectDir)) {
-            // Is there a matching build file?
-            String projectDirName = projectDir.name
-            File buildFile = resolveBuildFile(projectDir, projectDirName)
-            // yes -> include and stop
-            if (buildFile && buildFile.exists()) {
-                String projectPath = resolveProjectPath(projectDir, projectDirName)
-
-                settings.include(projectPath)
-                settings.project(projectPath).name = projectDirName
-                settings.project(projectPath).projectDir = projectDir
-                settings.project(projectPath).buildFileName = buildFile.name
-                LOG.info("[settings] Including project ${projectPath} -> ${buildFile.absolutePath}")
-            } else {
-                // no -> continue search
-                projectDir.eachDir { File dir ->
-                    discoverProject(dir)
-                }
-            }
+    private void discoverProjects() {
+        GlobUtils.GlobMatcher matcher = GlobUtils.fileMatcher(excludes.get())
+        ProjectDirectoryWalker walker = new ProjectDirectoryWalker(settings.settingsDir, buildFileResolver(),
+            { String path, String name -> matcher.matches(name) || matcher.matches(path) } as BiPredicate<String, String>)
+
+        // directories are walked in parallel but included in sorted order
+        List<ProjectDirectoryWalker.ProjectDir> projects = walker.walk()
+        scannedFiles.putAll(walker.directories)
+        for (ProjectDirectoryWalker.ProjectDir project : projects) {
+            String projectDirName = project.dir.name
+            String projectPath = resolveProjectPath(project.dir, projectDirName)
+
+            settings.include(projectPath)
+            settings.project(projectPath).name = projectDirName
+            settings.project(projectPath).projectDir = project.dir
+            settings.project(projectPath).buildFileName = project.buildFile.name
+            LOG.info("[settings] Including project ${projectPath} -> ${project.buildFile.absolutePath}")
         }
     }
 
     private void processStandardLayout() {
+        scanned(settings.rootDir)
         settings.rootDir.eachDir { File projectDir ->
             if (skipDirectoryDiscoveryFor(projectDir) || isProjectExcluded(projectDir.name, projectDir.name)) return
+            scanned(projectDir)
 
             File buildFile = resolveBuildFile(projectDir, projectDir.name)
             doIncludeProject(settings.rootDir, projectDir.name, buildFile)
@@ -342,8 +371,10 @@ class ProjectsExtensionImpl implements ProjectsExtension {
     }
 
     private void doProcessTwoLevelLayout(File parentDir, String prefixSuffix = null) {
+        scanned(parentDir)
         parentDir.eachDir { File projectDir ->
             if (isProjectExcluded("${projectDir.parentFile.name}/${projectDir.name}", projectDir.name)) return
+            scanned(projectDir)
 
             File buildFile = resolveBuildFile(projectDir, projectDir.name)
             doIncludeProject(parentDir, projectDir.name, buildFile)
@@ -390,54 +421,53 @@ class ProjectsExtensionImpl implements ProjectsExtension {
     }
 
     private boolean isProjectExcluded(String projectDir, String projectName) {
-        if (excludes.get().contains(projectName)) return true
-
-        for (String exclude : excludes.get()) {
-            if (pattern(exclude).matcher(projectDir).matches()) return true
-        }
-        for (String exclude : excludes.get()) {
-            if (pattern(exclude).matcher(projectName).matches()) return true
-        }
-
-        false
-    }
-
-    @Memoized
-    private Pattern pattern(String regex) {
-        Pattern.compile(asGlobRegex(regex))
+        GlobUtils.GlobMatcher matcher = GlobUtils.fileMatcher(excludes.get())
+        matcher.matches(projectName) || matcher.matches(projectDir)
     }
 
     private File resolveBuildFile(File projectDir, String projectName) {
-        if (enforceNamingConvention.get()) {
-            if (FileNameTransformation.ADD == fileNameTransformation.orNull) {
-                if (!isBlank(prefix.orNull)) {
-                    projectName = prefix.get() + projectName
-                }
-                if (!isBlank(suffix.orNull)) {
-                    projectName += suffix.get()
-                }
-            } else if (FileNameTransformation.REMOVE == fileNameTransformation.orNull) {
-                if (!isBlank(prefix.get())) {
-                    projectName -= prefix.get()
-                }
-                if (!isBlank(suffix.get())) {
-                    projectName -= suffix.get()
+        buildFileResolver().apply(projectDir, projectName)
+    }
+
+    private BiFunction<File, String, File> buildFileResolver() {
+        // snapshot naming settings, the resolver may be called from other threads
+        boolean enforce = enforceNamingConvention.get()
+        FileNameTransformation transformation = fileNameTransformation.orNull
+        String pre = prefix.orNull
+        String suf = suffix.orNull
+
+        return { File projectDir, String projectName ->
+            if (enforce) {
+                if (FileNameTransformation.ADD == transformation) {
+                    if (!isBlank(pre)) {
+                        projectName = pre + projectName
+                    }
+                    if (!isBlank(suf)) {
+                        projectName += suf
+                    }
+                } else if (FileNameTransformation.REMOVE == transformation) {
+                    if (!isBlank(pre)) {
+                        projectName -= pre
+                    }
+                    if (!isBlank(suf)) {
+                        projectName -= suf
+                    }
                 }
             }
-        }
 
-        for (String fileName : [
-            projectName + '.gradle'.toString(),
-            'build.gradle',
-            projectName + '.gradle.kts'.toString(),
-            'build.gradle.kts']) {
-            File buildFile = new File(projectDir, fileName)
-            if (buildFile.exists()) {
-                return buildFile
-            }
+            for (String fileName : [
+                projectName + '.gradle'.toString(),
+                'build.gradle',
+                projectName + '.gradle.kts'.toString(),
+                'build.gradle.kts']) {
+                File buildFile = new File(projectDir, fileName)
+                if (buildFile.exists()) {
+                    return buildFile
+                }
 
-        }
-        null
+            }
+            null
+        } as BiFunction<File, String, File>
     }
 
     private void doIncludeProject(File parentDir, String projectDirName, File buildFile) {
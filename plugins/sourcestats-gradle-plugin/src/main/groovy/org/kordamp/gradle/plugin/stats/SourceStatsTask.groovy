@@ -18,16 +18,27 @@
 package org.kordamp.gradle.plugin.stats
 
 import groovy.transform.CompileStatic
+import groovy.transform.PackageScope
 import groovy.xml.MarkupBuilder
 import org.gradle.api.DefaultTask
+import org.gradle.api.file.ConfigurableFileCollection
+import org.gradle.api.file.FileType
+import org.gradle.api.file.RegularFileProperty
 import org.gradle.api.tasks.CacheableTask
+import org.gradle.api.tasks.IgnoreEmptyDirectories
 import org.gradle.api.tasks.Input
-import org.gradle.api.tasks.InputFile
+import org.gradle.api.tasks.InputFiles
 import org.gradle.api.tasks.Internal
 import org.gradle.api.tasks.Optional
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.OutputFile
 import org.gradle.api.tasks.PathSensitive
 import org.gradle.api.tasks.PathSensitivity
 import org.gradle.api.tasks.TaskAction
+import org.gradle.work.ChangeType
+import org.gradle.work.FileChange
+import org.gradle.work.Incremental
+import org.gradle.work.InputChanges
 import org.kordamp.gradle.plugin.base.ProjectConfigurationExtension
 import org.kordamp.gradle.plugin.stats.counter.CssCounter
 import org.kordamp.gradle.plugin.stats.counter.HashCounter
@@ -36,13 +47,19 @@ import org.kordamp.gradle.plugin.stats.counter.PropertiesCounter
 import org.kordamp.gradle.plugin.stats.counter.SemiColonCounter
 import org.kordamp.gradle.plugin.stats.counter.SqlCounter
 import org.kordamp.gradle.plugin.stats.counter.XmlCounter
+import org.kordamp.gradle.plugin.stats.internal.LocIndex
+import org.kordamp.gradle.plugin.stats.internal.SourcePathMatcher
+import org.kordamp.gradle.plugin.stats.internal.SourceScanner
 import org.kordamp.gradle.util.PluginUtils
 
+import java.util.concurrent.Callable
+import java.util.concurrent.ForkJoinPool
+
 import static org.kordamp.gradle.plugin.base.plugins.Stats.HTML
 import static org.kordamp.gradle.plugin.base.plugins.Stats.TXT
 import static org.kordamp.gradle.plugin.base.plugins.Stats.XML
 import static org.kordamp.gradle.util.PluginUtils.resolveConfig
-import static org.kordamp.gradle.util.StringUtils.getFilenameExtension
+import static org.kordamp.gradle.util.StringUtils.isNotBlank
 
 /**
  * @author Andres Almiray
@@ -50,14 +67,13 @@ import static org.kordamp.gradle.util.StringUtils.getFilenameExtension
  */
 @CacheableTask
 class SourceStatsTask extends DefaultTask {
+    static final String ORG_KORDAMP_GRADLE_SOURCESTATS_THREADS = 'org.kordamp.gradle.sourcestats.threads'
+
     @Optional @Input Map<String, String> counters = [:]
     @Optional @Input Map<String, Map<String, String>> paths = [:]
     @Optional @Input List<String> formats = []
 
-    @PathSensitive(PathSensitivity.RELATIVE)
-    @Optional @InputFile File reportDir
-
-    @Internal
+    File reportDir
     File xmlReport
 
     @Internal
@@ -65,43 +81,115 @@ class SourceStatsTask extends DefaultTask {
     @Internal
     int totalLOC = 0
 
-    @TaskAction
-    void computeLoc() {
-        if (!reportDir) reportDir = project.file("${project.reporting.baseDir.path}/stats")
-        if (!xmlReport) xmlReport = project.file("${reportDir}/${project.name}.xml")
-        reportDir.mkdirs()
+    @Incremental
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    @InputFiles
+    final ConfigurableFileCollection sources
+
+    @OutputFile
+    final RegularFileProperty indexFile
+
+    SourceStatsTask() {
+        sources = project.objects.fileCollection()
+        sources.from(new Callable<Object>() {
+            @Override
+            Object call() throws Exception {
+                PluginUtils.resolveSourceDirs(project)
+            }
+        })
+        indexFile = project.objects.fileProperty()
+        indexFile.convention(project.layout.buildDirectory.file("tmp/${name}/loc.idx".toString()))
+    }
 
-        Map<String, Counter> counterInstances = resolveCounterInstances()
+    @OutputDirectory
+    File getReportDir() {
+        reportDir ?: project.file("${project.reporting.baseDir.path}/stats")
+    }
 
+    @OutputFile
+    File getXmlReport() {
+        xmlReport ?: reportFile(XML)
+    }
+
+    @Optional
+    @OutputFile
+    File getHtmlReport() {
+        HTML in formats ? reportFile(HTML) : null
+    }
+
+    @Optional
+    @OutputFile
+    File getTxtReport() {
+        TXT in formats ? reportFile(TXT) : null
+    }
+
+    /**
+     * Path categories from the project configuration merged with those set on this task.
+     *
+     * @since 0.55.0
+     */
+    @Input
+    Map<String, Map<String, String>> getMergedPaths() {
         ProjectConfigurationExtension config = resolveConfig(project)
+        mergePaths(config.stats.paths, paths)
+    }
 
-        Map<String, Map<String, String>> merged = [:]
-        merged.putAll(config.stats.paths)
-        // deep copy
-        paths.each { key, val ->
-            Map<String, String> map = [:]
-            map.putAll(val)
-            merged.put(key, map)
+    @PackageScope
+    static Map<String, Map<String, String>> mergePaths(Map<String, Map<String, String>> configured, Map<String, Map<String, String>> paths) {
+        // keep insertion order, the first matching category wins and catch-all categories come last
+        Map<String, Map<String, String>> merged = new LinkedHashMap<>()
+        [configured, paths].each { Map<String, Map<String, String>> source ->
+            source.each { key, val -> merged.put(key, new TreeMap<String, String>(val)) }
         }
+        merged
+    }
 
-        PluginUtils.resolveSourceDirs(project).each { File dir ->
-            if (!dir.exists()) return
-            dir.eachFileRecurse { File file ->
-                if (file.file) {
-                    String extension = getFilenameExtension(file.name)
-                    Map map = merged.find { file.absolutePath =~ it.value.path && !it.value.extension }?.value
-                    if (!map) map = merged.find {
-                        file.absolutePath =~ it.value.path && extension == it.value.extension
-                    }?.value
-                    if (!map) map = merged.find { file.absolutePath =~ it.value.path }?.value
-                    if (!map || (map.extension && extension != map.extension)) return
-                    if (counterInstances.containsKey(extension)) {
-                        SourceStatsTask.countLines(map, counterInstances[extension], file)
-                    }
-                }
+    @TaskAction
+    void computeLoc(InputChanges inputChanges) {
+        LocIndex index = inputChanges.incremental ? LocIndex.read(indexFile.get().asFile, project.projectDir) : null
+        if (index) {
+            List<File> changed = []
+            inputChanges.getFileChanges(sources).each { FileChange change ->
+                if (change.fileType == FileType.DIRECTORY) return
+                index.remove(change.file)
+                if (change.changeType != ChangeType.REMOVED) changed << change.file
             }
+            computeStats(index, changed)
+        } else {
+            computeStats(new LocIndex(project.projectDir), null)
+        }
+    }
+
+    void computeLoc() {
+        computeStats(new LocIndex(project.projectDir), null)
+    }
+
+    private void computeStats(LocIndex index, List<File> changed) {
+        getReportDir().mkdirs()
+
+        Map<String, Map<String, Object>> merged = mergePaths()
+        SourceScanner scanner = new SourceScanner(new SourcePathMatcher((Map) merged), resolveCounterInstances(), index)
+
+        ForkJoinPool pool = new ForkJoinPool(resolveThreads())
+        try {
+            if (changed == null) {
+                scanner.scan(sources.files, pool)
+            } else {
+                scanner.count(changed, pool)
+            }
+        } finally {
+            pool.shutdown()
+        }
+        index.write(indexFile.get().asFile)
+
+        index.entries.values().each { LocIndex.Entry entry ->
+            Map<String, Object> info = merged.get(entry.category)
+            if (info) SourceStatsTask.countLines(info, entry.lines)
         }
 
+        totalFiles = 0
+        totalLOC = 0
         List<String> toBeRemoved = []
         merged.each { type, info ->
             if (info.files && info.lines) {
@@ -122,14 +210,38 @@ class SourceStatsTask extends DefaultTask {
             output(merged, max, totalFiles.toString(), totalLOC.toString(), new PrintWriter(System.out))
             xmlOutput(merged, totalFiles.toString(), totalLOC.toString())
             if (HTML in formats) htmlOutput(merged, totalFiles.toString(), totalLOC.toString())
-            if (TXT in formats) output(merged, max, totalFiles.toString(), totalLOC.toString(), new PrintWriter(getOutputFile(TXT)))
+            if (TXT in formats) output(merged, max, totalFiles.toString(), totalLOC.toString(), new PrintWriter(getTxtReport()))
         }
     }
 
-    private static void countLines(Map<String, Object> work, Counter counter, File file) {
+    @CompileStatic
+    private Map<String, Map<String, Object>> mergePaths() {
+        Map<String, Map<String, Object>> merged = new LinkedHashMap<>()
+        // deep copy, counts are accumulated on these maps
+        getMergedPaths().each { key, val ->
+            Map<String, Object> map = [:]
+            map.putAll(val)
+            merged.put(key, map)
+        }
+        merged
+    }
+
+    @CompileStatic
+    private int resolveThreads() {
+        String threads = System.getProperty(ORG_KORDAMP_GRADLE_SOURCESTATS_THREADS)
+        if (isNotBlank(threads)) {
+            try {
+                return Math.max(1, Integer.parseInt(threads.trim()))
+            } catch (NumberFormatException ignored) {
+                logger.warn("Invalid value '{}' for {}, using the default number of threads", threads, ORG_KORDAMP_GRADLE_SOURCESTATS_THREADS)
+            }
+        }
+        Runtime.runtime.availableProcessors()
+    }
+
+    private static void countLines(Map<String, Object> work, int lines) {
         int numFiles = work.get('files', 0)
         work.files = ++numFiles
-        int lines = counter.count(file)
         int numLines = work.get('lines', 0)
         work.lines = numLines + lines
     }
@@ -188,7 +300,7 @@ class SourceStatsTask extends DefaultTask {
     }
 
     private void xmlOutput(Map<String, Map<String, Object>> work, String totalFiles, String totalLOC) {
-        new MarkupBuilder(new FileWriter(getOutputFile(XML))).stats {
+        new MarkupBuilder(new FileWriter(getXmlReport())).stats {
             work.each { type, info ->
                 if (info.files) {
                     category(name: info.name) {
@@ -207,7 +319,7 @@ class SourceStatsTask extends DefaultTask {
 
     private void htmlOutput(Map<String, Map<String, Object>> work, String totalFiles, String totalLOC) {
         int i = 0
-        new MarkupBuilder(new FileWriter(getOutputFile(HTML))).html {
+        new MarkupBuilder(new FileWriter(getHtmlReport())).html {
             table(border: 1) {
                 tr {
                     th('Name')
@@ -234,9 +346,7 @@ class SourceStatsTask extends DefaultTask {
         }
     }
 
-    @CompileStatic
-    private getOutputFile(String suffix) {
-        reportDir.mkdirs()
-        new File(reportDir, project.name + '.' + suffix)
+    private File reportFile(String suffix) {
+        new File(getReportDir(), project.name + '.' + suffix)
     }
 }
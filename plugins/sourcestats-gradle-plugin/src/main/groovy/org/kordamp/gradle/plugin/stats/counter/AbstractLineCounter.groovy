@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.stats.counter
+
+import groovy.transform.CompileStatic
+import org.kordamp.gradle.plugin.stats.Counter
+
+import static java.nio.charset.StandardCharsets.US_ASCII
+
+/**
+ * Base class for counters that classify lines on raw bytes with a {@code LineScanner}.
+ * Files that cannot be scanned that way are handed to {@link #countLines(File)}, which
+ * decodes them line by line.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+abstract class AbstractLineCounter implements Counter {
+    @Override
+    int count(File file) {
+        LineScanner scanner = LineScanner.open(file)
+        if (scanner == null) return countLines(file)
+
+        try {
+            return count(scanner)
+        } finally {
+            scanner.close()
+        }
+    }
+
+    protected abstract int count(LineScanner scanner)
+
+    protected abstract int countLines(File file)
+
+    protected static byte[] bytes(String s) {
+        s.getBytes(US_ASCII)
+    }
+
+    /**
+     * Counts lines of code in sources with single line comments (optional) and block comments.
+     */
+    protected static int countBlocks(LineScanner scanner, byte[] lineComment, byte[] open, byte[] close) {
+        int loc = 0
+        int comment = 0
+        while (scanner.next()) {
+            if (scanner.blank) continue
+            if (lineComment != null && scanner.startsWith(lineComment)) continue
+            if (scanner.isEnclosedBy(open, close)) continue
+
+            int o = scanner.indexOf(open)
+            int c = scanner.indexOf(close)
+            if (o != -1 && (c - o) <= 1) comment++
+            else if (c != -1 && comment) {
+                comment--
+                if (!comment) continue
+            }
+
+            if (!comment) loc++
+        }
+
+        loc
+    }
+
+    /**
+     * Counts non blank lines that do not start with the given comment marker.
+     */
+    protected static int countPrefixed(LineScanner scanner, byte[] lineComment) {
+        int loc = 0
+        while (scanner.next()) {
+            if (scanner.blank || scanner.startsWith(lineComment)) continue
+            loc++
+        }
+
+        loc
+    }
+}
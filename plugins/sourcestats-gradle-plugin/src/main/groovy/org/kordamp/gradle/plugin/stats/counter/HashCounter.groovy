@@ -18,18 +18,24 @@
 package org.kordamp.gradle.plugin.stats.counter
 
 import groovy.transform.CompileStatic
-import org.kordamp.gradle.plugin.stats.Counter
 
 /**
  * @author Andres Almiray
  * @since 0.5.0
  */
 @CompileStatic
-class HashCounter implements Counter {
+class HashCounter extends AbstractLineCounter {
+    private static final byte[] HASH_BYTES = bytes('#')
+
     String HASH = /^\s*#\s?.*/
 
     @Override
-    int count(File file) {
+    protected int count(LineScanner scanner) {
+        countPrefixed(scanner, HASH_BYTES)
+    }
+
+    @Override
+    protected int countLines(File file) {
         int loc = 0
         file.eachLine { line ->
             if (!(line.trim().length()) || line ==~ EMPTY || line ==~ HASH) return
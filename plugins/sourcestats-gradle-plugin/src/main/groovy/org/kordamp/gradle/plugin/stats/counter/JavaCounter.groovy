@@ -18,16 +18,24 @@
 package org.kordamp.gradle.plugin.stats.counter
 
 import groovy.transform.CompileStatic
-import org.kordamp.gradle.plugin.stats.Counter
 
 /**
  * @author Andres Almiray
  * @since 0.5.0
  */
 @CompileStatic
-class JavaCounter implements Counter {
+class JavaCounter extends AbstractLineCounter {
+    private static final byte[] SLASH_SLASH_BYTES = bytes('//')
+    private static final byte[] OPEN = bytes('/*')
+    private static final byte[] CLOSE = bytes('*/')
+
+    @Override
+    protected int count(LineScanner scanner) {
+        countBlocks(scanner, SLASH_SLASH_BYTES, OPEN, CLOSE)
+    }
+
     @Override
-    int count(File file) {
+    protected int countLines(File file) {
         int loc = 0
         int comment = 0
         file.eachLine { line ->
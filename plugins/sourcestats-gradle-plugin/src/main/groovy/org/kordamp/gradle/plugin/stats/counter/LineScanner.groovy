@@ -0,0 +1,306 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.stats.counter
+
+import groovy.transform.CompileStatic
+
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.charset.Charset
+import java.nio.charset.StandardCharsets
+import java.nio.file.StandardOpenOption
+
+/**
+ * Iterates the lines of a file directly on its bytes, without decoding them into Strings.
+ * Files are read into a per-thread buffer, or memory mapped when large.
+ * <p>
+ * Line boundaries and character classes follow what {@code File.eachLine} combined with
+ * {@code java.util.regex} would observe: the file encoding is guessed the same way Groovy does,
+ * a leading UTF-8 BOM is skipped, and the Unicode line terminators that {@code .} and {@code $}
+ * honor are detected. {@link #open(File)} returns {@code null} for encodings that cannot be
+ * scanned this way (UTF-16 or non UTF-8 platform charsets), in which case callers must
+ * fall back to decoding the file.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+final class LineScanner {
+    private static final int MAP_THRESHOLD = 1024 * 1024
+    private static final int GUESS_LENGTH = 4096
+    private static final ThreadLocal<LineScanner> SCANNERS = new ThreadLocal<LineScanner>() {
+        @Override
+        protected LineScanner initialValue() {
+            new LineScanner()
+        }
+    }
+
+    private ByteBuffer heap = ByteBuffer.allocate(8192)
+    private ByteBuffer buffer
+    private int limit
+    private int position
+    private boolean unicode
+
+    private int start
+    private int end
+
+    private LineScanner() {
+    }
+
+    /**
+     * Loads the given file into the calling thread's scanner.
+     *
+     * @return the scanner positioned before the first line, or {@code null} if the file must be decoded instead.
+     */
+    static LineScanner open(File file) {
+        LineScanner scanner = SCANNERS.get()
+        scanner.load(file) ? scanner : null
+    }
+
+    /**
+     * Releases the file contents held by this scanner.
+     */
+    void close() {
+        buffer = null
+    }
+
+    /**
+     * Advances to the next line. Lines are terminated by {@code \n}, {@code \r} or {@code \r\n}.
+     */
+    boolean next() {
+        if (position >= limit) return false
+
+        int i = position
+        while (i < limit) {
+            byte b = buffer.get(i)
+            if (b == (byte) 10 || b == (byte) 13) break
+            i++
+        }
+        start = position
+        end = i
+
+        if (i < limit) {
+            if (buffer.get(i) == (byte) 13 && i + 1 < limit && buffer.get(i + 1) == (byte) 10) i += 2
+            else i++
+        }
+        position = i
+        true
+    }
+
+    /**
+     * Whether the current line is empty once trimmed, i.e. all of its characters are {@code <= ' '}.
+     */
+    boolean isBlank() {
+        firstNonBlank() == end
+    }
+
+    /**
+     * The byte at the given offset of the current line.
+     */
+    byte at(int offset) {
+        buffer.get(start + offset)
+    }
+
+    /**
+     * Offset of the first character greater than {@code ' '}, as skipped by {@code String.trim()}.
+     */
+    int firstNonBlankOffset() {
+        firstNonBlank() - start
+    }
+
+    /**
+     * Offset of the first occurrence of {@code needle} in the current line, or {@code -1}.
+     */
+    int indexOf(byte[] needle) {
+        int last = end - needle.length
+        for (int i = start; i <= last; i++) {
+            if (matchesAt(i, needle)) return i - start
+        }
+        -1
+    }
+
+    /**
+     * Equivalent to a full match of {@code ^\s*PREFIX.*} against the current line.
+     */
+    boolean startsWith(byte[] prefix) {
+        if (patternEnd() != end) return false
+        int i = skipWhitespace(start, end)
+        i + prefix.length <= end && matchesAt(i, prefix)
+    }
+
+    /**
+     * Equivalent to {@code m = line =~ /^(.*)OPEN(.*)CLOSE(.*)$/; m.find() && m.group(1) ==~ EMPTY && m.group(3) ==~ EMPTY}.
+     */
+    boolean isEnclosedBy(byte[] open, byte[] close) {
+        int e = patternEnd()
+        if (e < 0) return false
+        int r = lastIndexOf(close, start, e)
+        if (r < 0) return false
+        int p = lastIndexOf(open, start, r)
+        if (p < 0) return false
+        skipWhitespace(start, p) == p && skipWhitespace(r + close.length, e) == e
+    }
+
+    private boolean load(File file) {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)
+        try {
+            long size = channel.size()
+            if (size > Integer.MAX_VALUE) return false
+            if (size > MAP_THRESHOLD) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                limit = (int) size
+            } else {
+                if (heap.capacity() < size) heap = ByteBuffer.allocate(Integer.highestOneBit((int) size) << 1)
+                heap.clear()
+                while (heap.hasRemaining() && channel.read(heap) > 0) {
+                    // keep reading
+                }
+                buffer = heap
+                limit = heap.position()
+            }
+        } finally {
+            channel.close()
+        }
+
+        position = 0
+        start = 0
+        end = 0
+        resolveEncoding()
+    }
+
+    private boolean resolveEncoding() {
+        if (limit >= 3 && buffer.get(0) == (byte) -17 && buffer.get(1) == (byte) -69 && buffer.get(2) == (byte) -65) {
+            position = 3
+            unicode = true
+            return true
+        }
+        if (limit >= 2 && ((buffer.get(0) == (byte) -1 && buffer.get(1) == (byte) -2) ||
+            (buffer.get(0) == (byte) -2 && buffer.get(1) == (byte) -1))) {
+            close()
+            return false
+        }
+
+        // mirrors groovy.util.CharsetToolkit
+        int length = Math.min(limit, GUESS_LENGTH)
+        boolean highOrderBit = false
+        boolean valid = true
+        int i = 0
+        while (i < length - 6) {
+            byte b = buffer.get(i)
+            if (b < 0) {
+                highOrderBit = true
+                int continuations = continuationsOf(b)
+                if (continuations < 0) {
+                    valid = false
+                } else {
+                    for (int c = 1; c <= continuations; c++) {
+                        if (buffer.get(i + c) > (byte) -65) {
+                            valid = false
+                            break
+                        }
+                    }
+                    if (valid) i += continuations
+                }
+            }
+            if (!valid) break
+            i++
+        }
+
+        if (!highOrderBit) {
+            unicode = false
+            return true
+        }
+        if (valid) {
+            unicode = true
+            return true
+        }
+
+        Charset charset = Charset.forName(System.getProperty('file.encoding'))
+        if (charset == StandardCharsets.UTF_8 || charset == StandardCharsets.US_ASCII) {
+            unicode = charset == StandardCharsets.UTF_8
+            return true
+        }
+        close()
+        false
+    }
+
+    private static int continuationsOf(byte b) {
+        if (b >= (byte) -64 && b <= (byte) -33) return 1
+        if (b >= (byte) -32 && b <= (byte) -17) return 2
+        if (b >= (byte) -16 && b <= (byte) -9) return 3
+        if (b >= (byte) -8 && b <= (byte) -5) return 4
+        if (b >= (byte) -4 && b <= (byte) -3) return 5
+        -1
+    }
+
+    private int firstNonBlank() {
+        int i = start
+        while (i < end && (buffer.get(i) & 0xFF) <= 0x20) i++
+        i
+    }
+
+    private int skipWhitespace(int from, int to) {
+        int i = from
+        while (i < to && isWhitespace(buffer.get(i))) i++
+        i
+    }
+
+    private static boolean isWhitespace(byte b) {
+        // \s is [ \t\n\x0B\f\r]
+        b == (byte) 32 || (b >= (byte) 9 && b <= (byte) 13)
+    }
+
+    private boolean matchesAt(int i, byte[] needle) {
+        for (int j = 0; j < needle.length; j++) {
+            if (buffer.get(i + j) != needle[j]) return false
+        }
+        true
+    }
+
+    private int lastIndexOf(byte[] needle, int from, int to) {
+        for (int i = to - needle.length; i >= from; i--) {
+            if (matchesAt(i, needle)) return i
+        }
+        -1
+    }
+
+    /**
+     * Where {@code (.*)$} may stop matching the current line: the end of the line, the start of a
+     * single trailing Unicode line terminator, or {@code -1} when a terminator sits elsewhere.
+     */
+    private int patternEnd() {
+        if (!unicode) return end
+        for (int i = start; i < end; i++) {
+            int length = terminatorAt(i)
+            if (length) return i + length == end ? i : -1
+        }
+        end
+    }
+
+    private int terminatorAt(int i) {
+        byte b = buffer.get(i)
+        // U+0085 NEL
+        if (b == (byte) 0xC2) return i + 1 < end && buffer.get(i + 1) == (byte) 0x85 ? 2 : 0
+        // U+2028 LINE SEPARATOR, U+2029 PARAGRAPH SEPARATOR
+        if (b == (byte) 0xE2 && i + 2 < end && buffer.get(i + 1) == (byte) 0x80) {
+            byte c = buffer.get(i + 2)
+            return c == (byte) 0xA8 || c == (byte) 0xA9 ? 3 : 0
+        }
+        0
+    }
+}
@@ -18,16 +18,28 @@
 package org.kordamp.gradle.plugin.stats.counter
 
 import groovy.transform.CompileStatic
-import org.kordamp.gradle.plugin.stats.Counter
 
 /**
  * @author Andres Almiray
  * @since 0.5.0
  */
 @CompileStatic
-class PropertiesCounter implements Counter {
+class PropertiesCounter extends AbstractLineCounter {
+    private static final byte HASH = (byte) 35
+
+    @Override
+    protected int count(LineScanner scanner) {
+        int loc = 0
+        while (scanner.next()) {
+            if (scanner.blank || scanner.at(scanner.firstNonBlankOffset()) == HASH) continue
+            loc++
+        }
+
+        loc
+    }
+
     @Override
-    int count(File file) {
+    protected int countLines(File file) {
         int loc = 0
         file.eachLine { line ->
             if (!(line.trim().length()) || line ==~ EMPTY || line.trim().startsWith('#')) return
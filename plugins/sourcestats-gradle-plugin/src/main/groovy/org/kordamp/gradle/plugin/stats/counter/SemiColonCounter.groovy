@@ -18,18 +18,24 @@
 package org.kordamp.gradle.plugin.stats.counter
 
 import groovy.transform.CompileStatic
-import org.kordamp.gradle.plugin.stats.Counter
 
 /**
  * @author Andres Almiray
  * @since 0.5.0
  */
 @CompileStatic
-class SemiColonCounter implements Counter {
+class SemiColonCounter extends AbstractLineCounter {
+    private static final byte[] SEMICOLON_BYTES = bytes(';')
+
     String SEMICOLON = /^\s*;.*/
 
     @Override
-    int count(File file) {
+    protected int count(LineScanner scanner) {
+        countPrefixed(scanner, SEMICOLON_BYTES)
+    }
+
+    @Override
+    protected int countLines(File file) {
         int loc = 0
         file.eachLine { line ->
             if (!(line.trim().length()) || line ==~ EMPTY || line ==~ SEMICOLON) return
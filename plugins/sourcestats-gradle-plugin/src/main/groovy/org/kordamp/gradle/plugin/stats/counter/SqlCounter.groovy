@@ -18,18 +18,26 @@
 package org.kordamp.gradle.plugin.stats.counter
 
 import groovy.transform.CompileStatic
-import org.kordamp.gradle.plugin.stats.Counter
 
 /**
  * @author Andres
  *  * @since 0.5.0
  */
 @CompileStatic
-class SqlCounter implements Counter {
+class SqlCounter extends AbstractLineCounter {
+    private static final byte[] DASH_DASH_BYTES = bytes('--')
+    private static final byte[] OPEN = bytes('/*')
+    private static final byte[] CLOSE = bytes('*/')
+
     String DASH_DASH = /^\s*--.*/
 
     @Override
-    int count(File file) {
+    protected int count(LineScanner scanner) {
+        countBlocks(scanner, DASH_DASH_BYTES, OPEN, CLOSE)
+    }
+
+    @Override
+    protected int countLines(File file) {
         int loc = 0
         int comment = 0
         file.eachLine { line ->
@@ -18,18 +18,25 @@
 package org.kordamp.gradle.plugin.stats.counter
 
 import groovy.transform.CompileStatic
-import org.kordamp.gradle.plugin.stats.Counter
 
 /**
  * @author Andres Almiray
  * @since 0.5.0
  */
 @CompileStatic
-class XmlCounter implements Counter {
+class XmlCounter extends AbstractLineCounter {
+    private static final byte[] OPEN = bytes('<!--')
+    private static final byte[] CLOSE = bytes('-->')
+
     String OPEN_CARET_CLOSE_CARET = /^(.*)<!--(.*)-->(.*)$/
 
     @Override
-    int count(File file) {
+    protected int count(LineScanner scanner) {
+        countBlocks(scanner, null, OPEN, CLOSE)
+    }
+
+    @Override
+    protected int countLines(File file) {
         int loc = 0
         int comment = 0
         file.eachLine { line ->
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.stats.internal
+
+import groovy.transform.CompileStatic
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Per-file line counts persisted between executions of {@code SourceStatsTask},
+ * keyed by path relative to the project directory so that an index restored from the
+ * build cache into another checkout still matches. Each entry records the category
+ * the file was counted against.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+final class LocIndex {
+    private static final String HEADER = '# kordamp source stats index v2'
+
+    final Map<String, Entry> entries = new ConcurrentHashMap<>()
+    private final Path baseDir
+
+    LocIndex(File baseDir) {
+        this.baseDir = baseDir.toPath().toAbsolutePath().normalize()
+    }
+
+    void put(File file, String category, int lines) {
+        entries.put(keyFor(file), new Entry(category, lines))
+    }
+
+    void remove(File file) {
+        entries.remove(keyFor(file))
+    }
+
+    private String keyFor(File file) {
+        baseDir.relativize(file.toPath().toAbsolutePath().normalize()).toString().replace('\\', '/')
+    }
+
+    /**
+     * Reads a previously stored index. Returns {@code null} if the file is missing or unreadable,
+     * in which case all sources must be counted again.
+     */
+    static LocIndex read(File file, File baseDir) {
+        if (!file?.exists()) return null
+
+        LocIndex index = new LocIndex(baseDir)
+        try {
+            BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)
+            try {
+                if (reader.readLine() != HEADER) return null
+                String line
+                while ((line = reader.readLine()) != null) {
+                    int first = line.indexOf('\t')
+                    int second = first > 0 ? line.indexOf('\t', first + 1) : -1
+                    if (second < 0) return null
+                    index.entries.put(line.substring(second + 1),
+                        new Entry(line.substring(0, first), Integer.parseInt(line.substring(first + 1, second))))
+                }
+            } finally {
+                reader.close()
+            }
+        } catch (IOException | NumberFormatException ignored) {
+            return null
+        }
+        index
+    }
+
+    void write(File file) {
+        file.parentFile.mkdirs()
+        Path tmp = Files.createTempFile(file.parentFile.toPath(), file.name, '.tmp')
+        BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)
+        try {
+            writer.write(HEADER)
+            writer.newLine()
+            for (Map.Entry<String, Entry> e : new TreeMap<String, Entry>(entries).entrySet()) {
+                writer.write(e.value.category)
+                writer.write('\t')
+                writer.write(String.valueOf(e.value.lines))
+                writer.write('\t')
+                writer.write(e.key)
+                writer.newLine()
+            }
+        } finally {
+            writer.close()
+        }
+        Files.move(tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING)
+    }
+
+    static final class Entry {
+        final String category
+        final int lines
+
+        Entry(String category, int lines) {
+            this.category = category
+            this.lines = lines
+        }
+    }
+}
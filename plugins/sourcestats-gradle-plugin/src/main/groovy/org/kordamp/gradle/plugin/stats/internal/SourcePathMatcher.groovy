@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.stats.internal
+
+import groovy.transform.CompileStatic
+
+import java.util.regex.Pattern
+
+/**
+ * Resolves the stats category of a source file using path patterns compiled once per task execution.
+ * Resolution follows the same precedence rules the task always had: the first matching path without
+ * an extension wins, followed by the first matching path whose extension matches the file's.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+final class SourcePathMatcher {
+    private final List<Entry> entries = []
+
+    SourcePathMatcher(Map<String, Map<String, String>> paths) {
+        paths.each { String key, Map<String, String> info ->
+            String extension = info.extension
+            entries << new Entry(key, Pattern.compile(info.path), extension ?: null)
+        }
+    }
+
+    /**
+     * Returns the key of the category that matches the given path, or {@code null} if none does.
+     */
+    String match(String path, String extension) {
+        String byExtension = null
+        for (Entry entry : entries) {
+            if (entry.extension && (byExtension || entry.extension != extension)) continue
+            if (!entry.pattern.matcher(path).find()) continue
+            if (!entry.extension) return entry.key
+            byExtension = entry.key
+        }
+        byExtension
+    }
+
+    private static final class Entry {
+        final String key
+        final Pattern pattern
+        final String extension
+
+        Entry(String key, Pattern pattern, String extension) {
+            this.key = key
+            this.pattern = pattern
+            this.extension = extension
+        }
+    }
+}
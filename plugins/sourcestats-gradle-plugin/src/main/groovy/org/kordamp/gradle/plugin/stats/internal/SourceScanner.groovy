@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.stats.internal
+
+import groovy.transform.CompileStatic
+import org.kordamp.gradle.plugin.stats.Counter
+
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.RecursiveAction
+
+import static org.kordamp.gradle.util.StringUtils.getFilenameExtension
+
+/**
+ * Walks source directories and counts lines on a fork-join pool, recording
+ * per-file results in a {@code LocIndex}. Counters are shared between worker
+ * threads and must therefore be stateless.
+ *
+ * @author Andres Almiray
+ * @since 0.55.0
+ */
+@CompileStatic
+final class SourceScanner {
+    private static final int BATCH_SIZE = 16
+
+    private final SourcePathMatcher matcher
+    private final Map<String, Counter> counters
+    private final LocIndex index
+
+    SourceScanner(SourcePathMatcher matcher, Map<String, Counter> counters, LocIndex index) {
+        this.matcher = matcher
+        this.counters = counters
+        this.index = index
+    }
+
+    /**
+     * Counts every file found under the given directories.
+     */
+    void scan(Collection<File> dirs, ForkJoinPool pool) {
+        List<RecursiveAction> tasks = []
+        for (File dir : dirs) {
+            if (dir.exists()) tasks << (RecursiveAction) new DirectoryTask(dir)
+        }
+        if (tasks) pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks)
+            }
+        })
+    }
+
+    /**
+     * Counts (or recounts) the given files only.
+     */
+    void count(List<File> files, ForkJoinPool pool) {
+        if (files) pool.invoke(new CountTask(files, 0, files.size()))
+    }
+
+    private void countFile(File file) {
+        String extension = getFilenameExtension(file.name)
+        Counter counter = counters.get(extension)
+        if (!counter) return
+
+        String category = matcher.match(file.absolutePath, extension)
+        if (category) index.put(file, category, counter.count(file))
+    }
+
+    private final class DirectoryTask extends RecursiveAction {
+        private final File dir
+
+        DirectoryTask(File dir) {
+            this.dir = dir
+        }
+
+        @Override
+        protected void compute() {
+            File[] children = dir.listFiles()
+            if (!children) return
+
+            List<RecursiveAction> tasks = []
+            List<File> files = []
+            for (File child : children) {
+                if (child.directory) {
+                    tasks << (RecursiveAction) new DirectoryTask(child)
+                } else if (child.file) {
+                    files << child
+                }
+            }
+            if (files) tasks << (RecursiveAction) new CountTask(files, 0, files.size())
+            invokeAll(tasks)
+        }
+    }
+
+    private final class CountTask extends RecursiveAction {
+        private final List<File> files
+        private final int from
+        private final int to
+
+        CountTask(List<File> files, int from, int to) {
+            this.files = files
+            this.from = from
+            this.to = to
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    SourceScanner.this.countFile(files.get(i))
+                }
+                return
+            }
+
+            int middle = (from + to) >>> 1
+            invokeAll(new CountTask(files, from, middle), new CountTask(files, middle, to))
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.stats
+
+import org.kordamp.gradle.plugin.stats.internal.SourcePathMatcher
+import spock.lang.Specification
+import spock.lang.Unroll
+
+@Unroll
+class SourceStatsPathsSpec extends Specification {
+    // same layout as the defaults set by Stats: test categories first, catch-all categories last
+    private static final Map<String, Map<String, String>> DEFAULTS = [
+        testJava              : [name: 'Java Test Sources', path: 'src/test', extension: 'java'],
+        integrationTestJava   : [name: 'Java Integration Test Sources', path: 'src/integration-test', extension: 'java'],
+        testGroovy            : [name: 'Groovy Test Sources', path: 'src/test', extension: 'groovy'],
+        integrationTestGroovy : [name: 'Groovy Integration Test Sources', path: 'src/integration-test', extension: 'groovy'],
+        java                  : [name: 'Java Sources', path: '.*', extension: 'java'],
+        groovy                : [name: 'Groovy Sources', path: '.*', extension: 'groovy']
+    ]
+
+    def "File #path is counted under #category"() {
+        given:
+        Map<String, Map<String, String>> merged = SourceStatsTask.mergePaths(DEFAULTS,
+            [model: [name: 'Models', path: 'griffon-app/models']])
+
+        expect:
+        new SourcePathMatcher(merged).match(path, extension) == category
+
+        where:
+        path                                                   | extension || category
+        '/work/src/test/java/org/example/Foo.java'             | 'java'    || 'testJava'
+        '/work/src/integration-test/java/org/example/Foo.java' | 'java'    || 'integrationTestJava'
+        '/work/src/main/java/org/example/Foo.java'             | 'java'    || 'java'
+        '/work/src/test/groovy/org/example/Foo.groovy'         | 'groovy'  || 'testGroovy'
+        '/work/src/main/groovy/org/example/Foo.groovy'         | 'groovy'  || 'groovy'
+        '/work/griffon-app/models/org/example/Foo.groovy'      | 'groovy'  || 'model'
+    }
+
+    def "Merged paths keep the order in which categories were defined"() {
+        expect:
+        SourceStatsTask.mergePaths(DEFAULTS, [model: [name: 'Models', path: 'griffon-app/models']]).keySet().toList() ==
+            DEFAULTS.keySet().toList() + ['model']
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2018-2025 Andres Almiray.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.gradle.plugin.stats.counter
+
+import org.junit.Rule
+import org.junit.rules.TemporaryFolder
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+
+@Unroll
+class LineCounterParitySpec extends Specification {
+    private static final List<String> CORPUS = [
+        '',
+        '\n',
+        'int x = 1;',
+        'int x = 1;\n',
+        'a\r\nb\rc\n\nd',
+        '  \t \n\u000b\f\n\u0001\n',
+        '// comment\n  // indented\ncode // trailing\n',
+        '/* one line */\n  /* indented */  \ncode /* trailing */\n/* leading */ code\n',
+        '/*\n * block\n */\ncode\n',
+        '/**\n * doc\n */\nclass Foo {\n    /* nested /* comment */\n    int x\n}\n',
+        '/*/ odd\ncode\n*/\ncode\n',
+        '/* a */ b /* c */\n/* a */ /* c */\n',
+        'x /*\ny\n*/ z\n',
+        '-- sql comment\nSELECT 1;\n  -- indented\n/* block */\nSELECT 2; -- trailing\n',
+        '<!-- xml -->\n<a/>\n<!--\n<b/>\n-->\n<c/> <!-- trailing -->\n<!-- a --> <!-- b -->\n<!-->\n',
+        '# hash\n  # indented\nkey: value # trailing\n#\n',
+        '; semicolon\n  ; indented\n(def x 1) ; trailing\n',
+        '\uFEFF// bom\ncode\n',
+        'caf\u00e9 /* \u00fcber */\n/* \u00e9 */\n\u00e9\n',
+        '/* nel */\u0085\n// nel\u0085\ncode\u0085code\n',
+        '/* ls */\u2028\n/* ls */\u2028x\n// ls\u2028\n# ps\u2029\n; ps\u2029\n-- ls\u2028\n<!-- ps -->\u2029\n',
+        '\u2028\n\u0085\n\u2029\n',
+        '/* a */\u2028/* b */\n',
+    ]
+
+    private static final List<String> TOKENS = [
+        '/*', '*/', '//', '--', '<!--', '-->', '#', ';', '/', '*', '-', '<', '>', '!',
+        ' ', '\t', '\f', '\u000b', '\u0001', '\n', '\r', '\r\n',
+        'x', 'code', '\u00e9', '\u0085', '\u2028', '\u2029', '\uFEFF'
+    ]
+
+    private static final Map<String, AbstractLineCounter> COUNTERS = [
+        css       : new CssCounter(),
+        hash      : new HashCounter(),
+        java      : new JavaCounter(),
+        properties: new PropertiesCounter(),
+        semicolon : new SemiColonCounter(),
+        sql       : new SqlCounter(),
+        xml       : new XmlCounter()
+    ]
+
+    @Rule
+    TemporaryFolder folder = new TemporaryFolder()
+
+    def "Counter #name matches line based counting on the corpus"() {
+        given:
+        List<File> files = []
+        CORPUS.eachWithIndex { String text, int i ->
+            files << write("corpus-${i}.txt", text.getBytes(StandardCharsets.UTF_8))
+        }
+
+        expect:
+        files.each { File file ->
+            assert counter.count(file) == counter.countLines(file), file.text
+        }
+
+        where:
+        name << COUNTERS.keySet().toList()
+        counter = COUNTERS[name]
+    }
+
+    def "Counter #name matches line based counting on generated sources"() {
+        given:
+        Random random = new Random(20250101L)
+        List<File> files = []
+        500.times { int i ->
+            StringBuilder text = new StringBuilder()
+            int size = random.nextInt(200)
+            size.times { text.append(TOKENS[random.nextInt(TOKENS.size())]) }
+            files << write("generated-${i}.txt", text.toString().getBytes(StandardCharsets.UTF_8))
+        }
+
+        expect:
+        files.each { File file ->
+            assert counter.count(file) == counter.countLines(file), file.text
+        }
+
+        where:
+        name << COUNTERS.keySet().toList()
+        counter = COUNTERS[name]
+    }
+
+    def "Counter #name matches line based counting on non UTF-8 content"() {
+        given:
+        List<File> files = [
+            write('latin1.txt', '/* caf\u00e9 */\ncaf\u00e9\n\u0085// x\n'.getBytes(StandardCharsets.ISO_8859_1)),
+            write('utf16.txt', '\uFEFF// x\ncode\n'.getBytes(StandardCharsets.UTF_16BE)),
+            write('late.txt', ((' ' * 5000) + '\n/* \u00e9 */\u2028\nx\n').getBytes(StandardCharsets.UTF_8))
+        ]
+
+        expect:
+        files.each { File file ->
+            assert counter.count(file) == counter.countLines(file), file.name
+        }
+
+        where:
+        name << COUNTERS.keySet().toList()
+        counter = COUNTERS[name]
+    }
+
+    def "Counter #name matches line based counting on large files"() {
+        given:
+        String chunk = CORPUS.join('\n')
+        StringBuilder text = new StringBuilder()
+        while (text.length() < 2 * 1024 * 1024) text.append(chunk)
+        File file = write('large.txt', text.toString().getBytes(StandardCharsets.UTF_8))
+
+        expect:
+        counter.count(file) == counter.countLines(file)
+
+        where:
+        name << COUNTERS.keySet().toList()
+        counter = COUNTERS[name]
+    }
+
+    private File write(String name, byte[] bytes) {
+        File file = folder.newFile(name)
+        file.bytes = bytes
+        file
+    }
+}